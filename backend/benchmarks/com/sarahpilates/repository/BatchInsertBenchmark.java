@@ -0,0 +1,219 @@
+package com.sarahpilates.repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Insert throughput of the two write paths that save many rows at once, instructor working hours
+// and a weekly schedule series, with IDENTITY ids against ids taken in blocks from id_generators.
+//
+// IDENTITY makes Hibernate send each insert on its own and read the generated key back; with the
+// pooled table generator it reserves 50 ids in one round trip and sends the inserts as one JDBC
+// batch, which Connector/J rewrites into multi-row statements when rewriteBatchedStatements is on.
+//
+// Standalone, outside the Maven build, against a database migrated by Flyway (start the app once
+// with DB_NAME pointing at it). Uses the first seeded student, instructor and class type and
+// deletes every row it inserts:
+//   javac -encoding UTF-8 -d /tmp/bench \
+//       backend/benchmarks/com/sarahpilates/repository/BatchInsertBenchmark.java
+//   java -cp /tmp/bench:mysql-connector-j.jar com.sarahpilates.repository.BatchInsertBenchmark \
+//       "jdbc:mysql://localhost:3306/sarahpilates_bench?rewriteBatchedStatements=true" user password [saves]
+public class BatchInsertBenchmark {
+
+    private static final int BLOCK = 50;
+    private static final BigDecimal PRICE = new BigDecimal("80.00");
+    private static final int ROUNDS = 5;
+    // Seven days with four blocks each, as sent by the working hours screen
+    private static final int WORKING_HOURS_PER_SAVE = 28;
+    // One year of a weekly class
+    private static final int SCHEDULES_PER_SERIES = 52;
+
+    private static final String WORKING_HOURS_COLUMNS =
+            "working_hours (instructor_id, day_of_week, start_time, end_time, is_available";
+    private static final String SCHEDULE_COLUMNS = "schedules (student_id, instructor_id, class_type_id, date, "
+            + "start_time, end_time, status, payment_status, price, room";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: BatchInsertBenchmark <jdbcUrl> <user> <password> [saves]");
+            System.exit(1);
+        }
+        int saves = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+        try (Connection connection = DriverManager.getConnection(args[0], args[1], args[2])) {
+            connection.setAutoCommit(false);
+            Fixture fixture = new Fixture(firstId(connection, "students"), firstId(connection, "instructors"),
+                    firstId(connection, "class_types"));
+
+            System.out.printf("%-14s %8s %16s %16s %10s%n", "write", "rows",
+                    "identity (r/s)", "pooled (r/s)", "speedup");
+            Writer workingHours = (c, rows, ids) -> insertWorkingHours(c, fixture, rows, ids);
+            Writer schedules = (c, rows, ids) -> insertSchedules(c, fixture, rows, ids);
+            report("working hours", saves * WORKING_HOURS_PER_SAVE,
+                    measure(connection, "working_hours", saves, WORKING_HOURS_PER_SAVE, false, workingHours),
+                    measure(connection, "working_hours", saves, WORKING_HOURS_PER_SAVE, true, workingHours));
+            report("schedules", saves * SCHEDULES_PER_SERIES,
+                    measure(connection, "schedules", saves, SCHEDULES_PER_SERIES, false, schedules),
+                    measure(connection, "schedules", saves, SCHEDULES_PER_SERIES, true, schedules));
+        }
+    }
+
+    private static void report(String write, int rows, double identityMillis, double pooledMillis) {
+        System.out.printf("%-14s %8d %16.0f %16.0f %9.1fx%n", write, rows, rows / identityMillis * 1_000,
+                rows / pooledMillis * 1_000, identityMillis / pooledMillis);
+    }
+
+    // Best of several rounds, each saving `saves` times in a transaction of its own; the rows of a
+    // round are deleted before the next one so every round starts from the same table size.
+    private static double measure(Connection connection, String table, int saves, int rowsPerSave, boolean pooled,
+                                  Writer writer) throws SQLException {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Long> ids = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int save = 0; save < saves; save++) {
+                List<Long> reserved = pooled ? reserve(connection, table, rowsPerSave) : null;
+                ids.addAll(writer.write(connection, rowsPerSave, reserved));
+                connection.commit();
+            }
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+            delete(connection, table, ids);
+        }
+        return best;
+    }
+
+    // What the pooled optimizer does: the stored value is the upper bound of the next block
+    private static List<Long> reserve(Connection connection, String table, int count) throws SQLException {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            long hi;
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT next_val FROM id_generators WHERE sequence_name = ? FOR UPDATE")) {
+                select.setString(1, table);
+                try (ResultSet rs = select.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new IllegalStateException("No id_generators row for " + table);
+                    }
+                    hi = rs.getLong(1);
+                }
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE id_generators SET next_val = ? WHERE sequence_name = ?")) {
+                update.setLong(1, hi + BLOCK);
+                update.setString(2, table);
+                update.executeUpdate();
+            }
+            for (long id = hi - BLOCK + 1; id <= hi && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> insertWorkingHours(Connection connection, Fixture fixture, int rows, List<Long> ids)
+            throws SQLException {
+        return insert(connection, WORKING_HOURS_COLUMNS, 5, rows, ids, (statement, i, offset) -> {
+            LocalTime startTime = LocalTime.of(7 + (i % 4) * 3, 0);
+            statement.setLong(offset, fixture.instructorId());
+            statement.setString(offset + 1, DayOfWeek.of(i / 4 % 7 + 1).name());
+            statement.setTime(offset + 2, Time.valueOf(startTime));
+            statement.setTime(offset + 3, Time.valueOf(startTime.plusHours(2)));
+            statement.setBoolean(offset + 4, true);
+        });
+    }
+
+    private static List<Long> insertSchedules(Connection connection, Fixture fixture, int rows, List<Long> ids)
+            throws SQLException {
+        LocalDate first = LocalDate.of(2000, 1, 3);
+        return insert(connection, SCHEDULE_COLUMNS, 10, rows, ids, (statement, i, offset) -> {
+            statement.setLong(offset, fixture.studentId());
+            statement.setLong(offset + 1, fixture.instructorId());
+            statement.setLong(offset + 2, fixture.classTypeId());
+            statement.setDate(offset + 3, Date.valueOf(first.plusWeeks(i)));
+            statement.setTime(offset + 4, Time.valueOf(LocalTime.of(8, 0)));
+            statement.setTime(offset + 5, Time.valueOf(LocalTime.of(8, 50)));
+            statement.setString(offset + 6, "AGENDADO");
+            statement.setString(offset + 7, "PENDENTE");
+            statement.setBigDecimal(offset + 8, PRICE);
+            statement.setString(offset + 9, "benchmark");
+        });
+    }
+
+    // Without reserved ids every row is its own statement and its key is read back, as Hibernate
+    // does for IDENTITY; with them the rows carry their id and go out as one batch.
+    private static List<Long> insert(Connection connection, String columns, int columnCount, int rows, List<Long> ids,
+                                     Binder binder) throws SQLException {
+        String placeholders = "?, ".repeat(columnCount - 1) + "?";
+        List<Long> inserted = new ArrayList<>(rows);
+        if (ids == null) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO " + columns + ") VALUES (" + placeholders + ")", Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < rows; i++) {
+                    binder.bind(statement, i, 1);
+                    statement.executeUpdate();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        keys.next();
+                        inserted.add(keys.getLong(1));
+                    }
+                }
+            }
+            return inserted;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO " + columns + ", id) VALUES (" + placeholders + ", ?)")) {
+            for (int i = 0; i < rows; i++) {
+                binder.bind(statement, i, 1);
+                statement.setLong(columnCount + 1, ids.get(i));
+                statement.addBatch();
+                inserted.add(ids.get(i));
+            }
+            statement.executeBatch();
+        }
+        return inserted;
+    }
+
+    private static void delete(Connection connection, String table, List<Long> ids) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + table + " WHERE id = ?")) {
+            for (Long id : ids) {
+                delete.setLong(1, id);
+                delete.addBatch();
+            }
+            delete.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static long firstId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MIN(id) FROM " + table)) {
+            rs.next();
+            long id = rs.getLong(1);
+            if (rs.wasNull()) {
+                throw new IllegalStateException("No rows in " + table + "; run the Flyway seed first");
+            }
+            return id;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        List<Long> write(Connection connection, int rows, List<Long> ids) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement statement, int row, int offset) throws SQLException;
+    }
+
+    private record Fixture(long studentId, long instructorId, long classTypeId) {}
+}
@@ -0,0 +1,200 @@
+package com.sarahpilates.repository;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Cost of one calendar request over a date range: the old path, which loaded the whole range and
+// sliced the page in memory, against the paged row query plus count behind
+// ScheduleRepository.findRowsByDateBetween.
+//
+// Standalone, outside the Maven build, against a database migrated by Flyway (start the app once
+// with DB_NAME pointing at it). Uses the first seeded student, instructor and class type, adds its
+// own schedules with room 'benchmark' and deletes them at the end:
+//   javac -encoding UTF-8 -d /tmp/bench \
+//       backend/benchmarks/com/sarahpilates/repository/ScheduleRangeQueryBenchmark.java
+//   java -cp /tmp/bench:mysql-connector-j.jar com.sarahpilates.repository.ScheduleRangeQueryBenchmark \
+//       "jdbc:mysql://localhost:3306/sarahpilates_bench?rewriteBatchedStatements=true" user password [years]
+//
+// Memory is the number of bytes the request thread allocated, which is what the old path grew
+// with the range; time is the best of several rounds.
+public class ScheduleRangeQueryBenchmark {
+
+    private static final String ROOM = "benchmark";
+    private static final int PER_DAY = 40;
+    private static final int PAGE_SIZE = 20;
+    private static final int ROUNDS = 5;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2000, 1, 3);
+
+    private static final String ROW_SELECT = "SELECT s.id, st.id, st.name, i.id, i.name, ct.id, ct.name, ct.color, "
+            + "s.date, s.start_time, s.end_time, s.status, s.payment_status, s.price, s.room, s.notes "
+            + "FROM schedules s JOIN students st ON st.id = s.student_id JOIN instructors i ON i.id = s.instructor_id "
+            + "JOIN class_types ct ON ct.id = s.class_type_id WHERE s.date BETWEEN ? AND ? ";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: ScheduleRangeQueryBenchmark <jdbcUrl> <user> <password> [years]");
+            System.exit(1);
+        }
+        int years = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+        try (Connection connection = DriverManager.getConnection(args[0], args[1], args[2])) {
+            LocalDate lastDay = FIRST_DAY.plusYears(years).minusDays(1);
+            try {
+                int seeded = seed(connection, lastDay);
+                System.out.printf("Seeded %d schedules between %s and %s%n%n", seeded, FIRST_DAY, lastDay);
+
+                System.out.printf("%-8s %8s %14s %14s %14s %14s%n", "range", "rows",
+                        "full (ms)", "full (MB)", "page (ms)", "page (MB)");
+                for (int days : new int[] {7, 30, 90, 365, 365 * years}) {
+                    LocalDate end = FIRST_DAY.plusDays(days - 1);
+                    Result full = measure(() -> loadFull(connection, FIRST_DAY, end));
+                    Result page = measure(() -> loadPage(connection, FIRST_DAY, end));
+                    System.out.printf("%-8s %8d %14.2f %14.2f %14.2f %14.2f%n", days + "d", full.rows(),
+                            full.millis(), full.megabytes(), page.millis(), page.megabytes());
+                }
+            } finally {
+                try (PreparedStatement delete = connection.prepareStatement("DELETE FROM schedules WHERE room = ?")) {
+                    delete.setString(1, ROOM);
+                    delete.executeUpdate();
+                }
+            }
+        }
+    }
+
+    // Old path: every row of the range is read and mapped before the page is cut out of the list,
+    // so the cost of the slice itself is left out
+    private static int loadFull(Connection connection, LocalDate start, LocalDate end) throws SQLException {
+        List<Object[]> rows = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement(
+                ROW_SELECT + "ORDER BY s.date, s.start_time, s.id")) {
+            query.setDate(1, Date.valueOf(start));
+            query.setDate(2, Date.valueOf(end));
+            try (ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(row(rs));
+                }
+            }
+        }
+        return rows.size();
+    }
+
+    // New path: the page with LIMIT/OFFSET and a count served by the (date, start_time) index
+    private static int loadPage(Connection connection, LocalDate start, LocalDate end) throws SQLException {
+        List<Object[]> page = new ArrayList<>(PAGE_SIZE);
+        try (PreparedStatement query = connection.prepareStatement(
+                ROW_SELECT + "ORDER BY s.date, s.start_time, s.id LIMIT ? OFFSET ?")) {
+            query.setDate(1, Date.valueOf(start));
+            query.setDate(2, Date.valueOf(end));
+            query.setInt(3, PAGE_SIZE);
+            query.setInt(4, 0);
+            try (ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    page.add(row(rs));
+                }
+            }
+        }
+        try (PreparedStatement count = connection.prepareStatement(
+                "SELECT COUNT(s.id) FROM schedules s WHERE s.date BETWEEN ? AND ?")) {
+            count.setDate(1, Date.valueOf(start));
+            count.setDate(2, Date.valueOf(end));
+            try (ResultSet rs = count.executeQuery()) {
+                rs.next();
+                return (int) rs.getLong(1);
+            }
+        }
+    }
+
+    private static Object[] row(ResultSet rs) throws SQLException {
+        Object[] row = new Object[16];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = rs.getObject(i + 1);
+        }
+        return row;
+    }
+
+    private static Result measure(Request request) throws SQLException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        double millis = Double.MAX_VALUE;
+        double megabytes = Double.MAX_VALUE;
+        int rows = 0;
+        // Best of several rounds; the first one doubles as warm-up
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocated = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            rows = request.run();
+            millis = Math.min(millis, (System.nanoTime() - start) / 1_000_000.0);
+            megabytes = Math.min(megabytes, (threads.getCurrentThreadAllocatedBytes() - allocated) / (1024.0 * 1024.0));
+        }
+        return new Result(rows, millis, megabytes);
+    }
+
+    private static int seed(Connection connection, LocalDate lastDay) throws SQLException {
+        long studentId = firstId(connection, "students");
+        long instructorId = firstId(connection, "instructors");
+        long classTypeId = firstId(connection, "class_types");
+        int seeded = 0;
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO schedules (id, student_id, "
+                + "instructor_id, class_type_id, date, start_time, end_time, status, payment_status, price, room) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 'CONCLUIDO', 'PAGO', 80.00, ?)")) {
+            long nextId = maxId(connection) + 1_000_000;
+            for (LocalDate day = FIRST_DAY; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                for (int i = 0; i < PER_DAY; i++) {
+                    LocalTime startTime = LocalTime.of(6 + i % 14, 0);
+                    insert.setLong(1, nextId++);
+                    insert.setLong(2, studentId);
+                    insert.setLong(3, instructorId);
+                    insert.setLong(4, classTypeId);
+                    insert.setDate(5, Date.valueOf(day));
+                    insert.setTime(6, Time.valueOf(startTime));
+                    insert.setTime(7, Time.valueOf(startTime.plusMinutes(50)));
+                    insert.setString(8, ROOM);
+                    insert.addBatch();
+                    seeded++;
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return seeded;
+    }
+
+    private static long firstId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MIN(id) FROM " + table)) {
+            rs.next();
+            long id = rs.getLong(1);
+            if (rs.wasNull()) {
+                throw new IllegalStateException("No rows in " + table + "; run the Flyway seed first");
+            }
+            return id;
+        }
+    }
+
+    private static long maxId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM schedules")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        int run() throws SQLException;
+    }
+
+    private record Result(int rows, double millis, double megabytes) {}
+}
@@ -0,0 +1,185 @@
+package com.sarahpilates.service;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// End-of-day attendance marking: the per-row path behind PUT /api/schedules/{id}, one transaction
+// per schedule that reloads it with its student, instructor and class type and rewrites the row,
+// against ScheduleService.bulkUpdateStatus, which locks all rows with one SELECT ... FOR UPDATE and
+// changes them with one UPDATE ... WHERE id IN.
+//
+// Only the SQL of both paths is timed, not the HTTP round trips that the per-row path also pays
+// once per schedule, so the gap on a real client is larger than the one printed here.
+//
+// Standalone, outside the Maven build, against a database migrated by Flyway (start the app once
+// with DB_NAME pointing at it). Uses the first seeded student, instructor and class type, adds its
+// own schedules with room 'benchmark' and deletes them at the end:
+//   javac -encoding UTF-8 -d /tmp/bench \
+//       backend/benchmarks/com/sarahpilates/service/ScheduleBulkStatusBenchmark.java
+//   java -cp /tmp/bench:mysql-connector-j.jar com.sarahpilates.service.ScheduleBulkStatusBenchmark \
+//       "jdbc:mysql://localhost:3306/sarahpilates_bench" user password
+public class ScheduleBulkStatusBenchmark {
+
+    private static final String ROOM = "benchmark";
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: ScheduleBulkStatusBenchmark <jdbcUrl> <user> <password>");
+            System.exit(1);
+        }
+        try (Connection connection = DriverManager.getConnection(args[0], args[1], args[2])) {
+            connection.setAutoCommit(false);
+            try {
+                System.out.printf("%-6s %16s %12s %10s%n", "ids", "per-row (ms)", "bulk (ms)", "speedup");
+                for (int count : new int[] {30, 60}) {
+                    List<Long> ids = seed(connection, count);
+                    double perRow = Double.MAX_VALUE;
+                    double bulk = Double.MAX_VALUE;
+                    // Best of several rounds; each round flips the rows back so both paths always write
+                    for (int round = 0; round < ROUNDS; round++) {
+                        String status = round % 2 == 0 ? "CONCLUIDO" : "AGENDADO";
+                        String payment = round % 2 == 0 ? "PAGO" : "PENDENTE";
+                        long start = System.nanoTime();
+                        perRow(connection, ids, status, payment);
+                        perRow = Math.min(perRow, (System.nanoTime() - start) / 1_000_000.0);
+
+                        start = System.nanoTime();
+                        bulk(connection, ids, status, payment);
+                        bulk = Math.min(bulk, (System.nanoTime() - start) / 1_000_000.0);
+                    }
+                    System.out.printf("%-6d %16.2f %12.2f %9.1fx%n", count, perRow, bulk, perRow / bulk);
+                }
+            } finally {
+                try (PreparedStatement delete = connection.prepareStatement("DELETE FROM schedules WHERE room = ?")) {
+                    delete.setString(1, ROOM);
+                    delete.executeUpdate();
+                }
+                connection.commit();
+            }
+        }
+    }
+
+    private static void perRow(Connection connection, List<Long> ids, String status, String payment)
+            throws SQLException {
+        for (Long id : ids) {
+            long studentId;
+            long instructorId;
+            long classTypeId;
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT student_id, instructor_id, class_type_id FROM schedules WHERE id = ?")) {
+                select.setLong(1, id);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    studentId = rs.getLong(1);
+                    instructorId = rs.getLong(2);
+                    classTypeId = rs.getLong(3);
+                }
+            }
+            load(connection, "students", studentId);
+            load(connection, "instructors", instructorId);
+            load(connection, "class_types", classTypeId);
+            try (PreparedStatement update = connection.prepareStatement("UPDATE schedules SET student_id = ?, "
+                    + "instructor_id = ?, class_type_id = ?, status = ?, payment_status = ? WHERE id = ?")) {
+                update.setLong(1, studentId);
+                update.setLong(2, instructorId);
+                update.setLong(3, classTypeId);
+                update.setString(4, status);
+                update.setString(5, payment);
+                update.setLong(6, id);
+                update.executeUpdate();
+            }
+            connection.commit();
+        }
+    }
+
+    private static void bulk(Connection connection, List<Long> ids, String status, String payment)
+            throws SQLException {
+        String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, status, payment_status FROM schedules WHERE id IN (" + in + ") FOR UPDATE")) {
+            bindIds(select, ids, 1);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    rs.getString(2);
+                }
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE schedules SET status = ?, payment_status = ? WHERE id IN (" + in + ")")) {
+            update.setString(1, status);
+            update.setString(2, payment);
+            bindIds(update, ids, 3);
+            update.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    private static void load(Connection connection, String table, long id) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT * FROM " + table + " WHERE id = ?")) {
+            select.setLong(1, id);
+            try (ResultSet rs = select.executeQuery()) {
+                rs.next();
+            }
+        }
+    }
+
+    private static void bindIds(PreparedStatement statement, List<Long> ids, int offset) throws SQLException {
+        for (int i = 0; i < ids.size(); i++) {
+            statement.setLong(offset + i, ids.get(i));
+        }
+    }
+
+    private static List<Long> seed(Connection connection, int count) throws SQLException {
+        long studentId = firstId(connection, "students");
+        long instructorId = firstId(connection, "instructors");
+        long classTypeId = firstId(connection, "class_types");
+        List<Long> ids = new ArrayList<>(count);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO schedules (student_id, "
+                + "instructor_id, class_type_id, date, start_time, end_time, status, payment_status, price, room) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 'AGENDADO', 'PENDENTE', ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < count; i++) {
+                LocalTime startTime = LocalTime.of(6 + i % 14, 0);
+                insert.setLong(1, studentId);
+                insert.setLong(2, instructorId);
+                insert.setLong(3, classTypeId);
+                insert.setDate(4, Date.valueOf(LocalDate.of(2000, 1, 3)));
+                insert.setTime(5, Time.valueOf(startTime));
+                insert.setTime(6, Time.valueOf(startTime.plusMinutes(50)));
+                insert.setBigDecimal(7, new BigDecimal("80.00"));
+                insert.setString(8, ROOM);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    ids.add(keys.getLong(1));
+                }
+            }
+        }
+        connection.commit();
+        return ids;
+    }
+
+    private static long firstId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MIN(id) FROM " + table)) {
+            rs.next();
+            long id = rs.getLong(1);
+            if (rs.wasNull()) {
+                throw new IllegalStateException("No rows in " + table + "; run the Flyway seed first");
+            }
+            return id;
+        }
+    }
+}
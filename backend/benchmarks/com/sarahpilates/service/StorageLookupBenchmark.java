@@ -0,0 +1,136 @@
+package com.sarahpilates.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+// Lookup cost of a stored document against the number of files, for the flat upload directory
+// and the two-level layout used by FileStorageService (ab/cd/<sha-256>).
+//
+// Standalone, outside the Maven build:
+//   javac -encoding UTF-8 -d /tmp/bench -sourcepath backend/src/main/java \
+//       backend/benchmarks/com/sarahpilates/service/StorageLookupBenchmark.java
+//   java -cp /tmp/bench com.sarahpilates.service.StorageLookupBenchmark [workDir] [fileCount...]
+//
+// For each count both layouts are filled with small files named by hash, then timed for opening
+// existing files, probing missing ones and walking the whole tree (what a backup does). Runs on a
+// warm page cache; results depend on the file system the work directory lives on.
+public class StorageLookupBenchmark {
+
+    private static final int LOOKUPS = 20_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path workDir = args.length > 0 ? Path.of(args[0]) : Files.createTempDirectory("storage-benchmark");
+        List<Integer> counts = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            counts.add(Integer.parseInt(args[i]));
+        }
+        if (counts.isEmpty()) {
+            counts = List.of(1_000, 10_000, 50_000, 100_000);
+        }
+
+        System.out.printf("%-8s %9s %14s %14s %12s%n", "layout", "files", "open (us/op)", "miss (us/op)", "walk (ms)");
+        try {
+            for (int count : counts) {
+                List<String> hashes = hashes(count);
+                for (boolean sharded : new boolean[] {false, true}) {
+                    Path root = workDir.resolve((sharded ? "sharded-" : "flat-") + count);
+                    fill(root, hashes, sharded);
+                    Result result = measure(root, hashes, sharded);
+                    System.out.printf("%-8s %9d %14.2f %14.2f %12.1f%n", sharded ? "sharded" : "flat", count,
+                            result.openMicros(), result.missMicros(), result.walkMillis());
+                    deleteTree(root);
+                }
+            }
+        } finally {
+            if (args.length == 0) {
+                deleteTree(workDir);
+            }
+        }
+    }
+
+    private static Result measure(Path root, List<String> hashes, boolean sharded)
+            throws IOException, NoSuchAlgorithmException {
+        Random random = new Random(42);
+        List<String> missing = hashes(LOOKUPS, "missing-");
+        double open = Double.MAX_VALUE;
+        double miss = Double.MAX_VALUE;
+        double walk = Double.MAX_VALUE;
+        // Best of several rounds; the first one doubles as warm-up
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                Path path = locationOf(root, hashes.get(random.nextInt(hashes.size())), sharded);
+                Files.readAttributes(path, BasicFileAttributes.class);
+            }
+            open = Math.min(open, (System.nanoTime() - start) / 1_000.0 / LOOKUPS);
+
+            start = System.nanoTime();
+            for (String hash : missing) {
+                Files.exists(locationOf(root, hash, sharded));
+            }
+            miss = Math.min(miss, (System.nanoTime() - start) / 1_000.0 / LOOKUPS);
+
+            start = System.nanoTime();
+            try (Stream<Path> files = Files.walk(root)) {
+                files.count();
+            }
+            walk = Math.min(walk, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return new Result(open, miss, walk);
+    }
+
+    private static void fill(Path root, List<String> hashes, boolean sharded) throws IOException {
+        Files.createDirectories(root);
+        byte[] content = "%PDF-1.4 benchmark".getBytes(StandardCharsets.US_ASCII);
+        for (String hash : hashes) {
+            Path path = locationOf(root, hash, sharded);
+            Files.createDirectories(path.getParent());
+            Files.write(path, content);
+        }
+    }
+
+    private static Path locationOf(Path root, String hash, boolean sharded) {
+        if (!sharded) {
+            return root.resolve(hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static List<String> hashes(int count) throws NoSuchAlgorithmException {
+        return hashes(count, "document-");
+    }
+
+    private static List<String> hashes(int count, String prefix) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        List<String> hashes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hashes.add(HexFormat.of().formatHex(digest.digest((prefix + i).getBytes(StandardCharsets.UTF_8))));
+        }
+        return hashes;
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private record Result(double openMicros, double missMicros, double walkMillis) {}
+}
@@ -0,0 +1,59 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.enums.StudentStatus;
+import com.sarahpilates.dto.student.StudentSummaryDTO;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// Query latency of the student typeahead index over synthetic students with Portuguese names.
+//
+// Standalone, outside the Maven build (the index has no Spring dependencies):
+//   javac -encoding UTF-8 -d /tmp/bench -sourcepath backend/src/main/java \
+//       backend/benchmarks/com/sarahpilates/service/StudentSearchBenchmark.java
+//   java -cp /tmp/bench com.sarahpilates.service.StudentSearchBenchmark [students]
+public class StudentSearchBenchmark {
+
+    private static final String[] FIRST = {"Ana", "João", "Maria", "José", "Antônio", "Francisca", "Luíza", "Márcia",
+            "Paulo", "Célia", "Sérgio", "Fátima", "Conceição", "Raimundo", "Letícia", "Bárbara", "Vitória", "Caio"};
+    private static final String[] LAST = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves",
+            "Pereira", "Lima", "Gomes", "Ribeiro", "Araújo", "Carvalho", "Simões", "Magalhães", "Conceição"};
+    private static final String[] QUERIES = {"a", "ma", "jo", "joao", "maria s", "anto", "fatima ara", "conc",
+            "silva", "luiza mag", "11987", "987654", "ana.silva", "z", "ce si"};
+    private static final int ITERATIONS = 20_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        Random random = new Random(42);
+        StudentSearchIndex index = new StudentSearchIndex();
+
+        long start = System.nanoTime();
+        for (long id = 1; id <= count; id++) {
+            String first = FIRST[random.nextInt(FIRST.length)];
+            String last = LAST[random.nextInt(LAST.length)] + " " + LAST[random.nextInt(LAST.length)];
+            String email = first.toLowerCase() + "." + last.split(" ")[0].toLowerCase() + id + "@email.com";
+            String phone = String.format("(11) 9%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+            index.put(new StudentSummaryDTO(id, first + " " + last, email, phone, StudentStatus.ATIVO, "Mensal"));
+        }
+        System.out.printf("Indexed %d students in %d ms%n%n", index.size(), (System.nanoTime() - start) / 1_000_000);
+
+        System.out.printf("%-12s %8s %12s %12s%n", "query", "results", "mean (us)", "p99 (us)");
+        for (String query : QUERIES) {
+            long[] samples = new long[ITERATIONS];
+            List<StudentSummaryDTO> result = List.of();
+            for (int warmup = 0; warmup < ITERATIONS; warmup++) {
+                result = index.search(query, 10);
+            }
+            for (int i = 0; i < ITERATIONS; i++) {
+                long t = System.nanoTime();
+                result = index.search(query, 10);
+                samples[i] = System.nanoTime() - t;
+            }
+            Arrays.sort(samples);
+            double mean = Arrays.stream(samples).average().orElse(0) / 1_000.0;
+            System.out.printf("%-12s %8d %12.2f %12.2f%n", '"' + query + '"', result.size(), mean,
+                    samples[(int) (ITERATIONS * 0.99)] / 1_000.0);
+        }
+    }
+}
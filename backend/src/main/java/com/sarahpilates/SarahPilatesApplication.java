@@ -4,9 +4,11 @@ import com.sarahpilates.config.FileStorageProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableConfigurationProperties(FileStorageProperties.class)
+@EnableScheduling
 public class SarahPilatesApplication {
 
     public static void main(String[] args) {
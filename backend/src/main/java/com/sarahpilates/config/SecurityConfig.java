@@ -3,6 +3,7 @@ package com.sarahpilates.config;
 import com.sarahpilates.security.JwtAuthEntryPoint;
 import com.sarahpilates.security.jwt.JwtAuthFilter;
 import com.sarahpilates.service.JpaUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -43,6 +44,11 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/login", "/api/auth/register", "/swagger-ui/**", "/api-docs/**").permitAll()
+                        // Calendar feeds are authorized by the token in their URL
+                        .requestMatchers("/api/calendar/**").permitAll()
+                        // Streaming responses (exports, SSE) finish on an async dispatch that the
+                        // JWT filter does not see; the original request was already authorized.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider()) // Explicitly set the provider
@@ -0,0 +1,31 @@
+package com.sarahpilates.domain.dashboard;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Last dashboard figures seen on a given day; earlier days are the baselines for the deltas.
+@Entity
+@Table(name = "dashboard_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "snapshotDate")
+public class DashboardSnapshot {
+
+    @Id
+    @Column(name = "snapshot_date")
+    private LocalDate snapshotDate;
+
+    @Column(name = "total_students", nullable = false)
+    private Long totalStudents;
+
+    @Column(name = "today_classes", nullable = false)
+    private Long todayClasses;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+}
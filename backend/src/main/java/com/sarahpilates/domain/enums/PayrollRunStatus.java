@@ -0,0 +1,6 @@
+package com.sarahpilates.domain.enums;
+
+public enum PayrollRunStatus {
+    ABERTA,
+    FECHADA
+}
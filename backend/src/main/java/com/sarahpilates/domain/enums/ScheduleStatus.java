@@ -5,5 +5,10 @@ public enum ScheduleStatus {
     CONFIRMADO,
     CONCLUIDO,
     CANCELADO,
-    FALTA
+    FALTA;
+
+    // A cancelled booking frees the instructor, the room and the seat it held.
+    public boolean occupiesSlot() {
+        return this != CANCELADO;
+    }
 }
@@ -0,0 +1,7 @@
+package com.sarahpilates.domain.enums;
+
+public enum WaitlistStatus {
+    AGUARDANDO,
+    PROMOVIDO,
+    CANCELADO
+}
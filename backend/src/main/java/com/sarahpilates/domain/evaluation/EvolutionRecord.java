@@ -18,7 +18,9 @@ import java.util.List;
 public class EvolutionRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "evolution_record_id")
+    @TableGenerator(name = "evolution_record_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "evolution_records", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -20,7 +20,9 @@ import java.util.List;
 public class PhysicalEvaluation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "physical_evaluation_id")
+    @TableGenerator(name = "physical_evaluation_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "physical_evaluations", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,7 +16,9 @@ import java.time.LocalTime;
 public class WorkingHours {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "working_hours_id")
+    @TableGenerator(name = "working_hours_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "working_hours", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
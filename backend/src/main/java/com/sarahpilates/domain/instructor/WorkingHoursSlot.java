@@ -0,0 +1,13 @@
+package com.sarahpilates.domain.instructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+// One available WorkingHours row flattened together with its instructor's id and name.
+public record WorkingHoursSlot(
+    Long instructorId,
+    String instructorName,
+    DayOfWeek dayOfWeek,
+    LocalTime startTime,
+    LocalTime endTime
+) {}
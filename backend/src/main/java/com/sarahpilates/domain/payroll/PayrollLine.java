@@ -0,0 +1,44 @@
+package com.sarahpilates.domain.payroll;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+// Instructor name and rate are copied so a closed run keeps reading the same after the
+// instructor is edited or removed.
+@Entity
+@Table(name = "payroll_lines")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class PayrollLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "run_id", nullable = false)
+    private PayrollRun run;
+
+    @Column(name = "instructor_id", nullable = false)
+    private Long instructorId;
+
+    @Column(name = "instructor_name", nullable = false)
+    private String instructorName;
+
+    @Column(nullable = false)
+    private Long sessions;
+
+    @Column(nullable = false)
+    private Long minutes;
+
+    @Column(name = "hourly_rate", precision = 10, scale = 2)
+    private BigDecimal hourlyRate;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+}
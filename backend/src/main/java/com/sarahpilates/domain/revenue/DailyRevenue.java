@@ -0,0 +1,32 @@
+package com.sarahpilates.domain.revenue;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Revenue of the classes given on one day. Rows are adjusted by deltas on every schedule write
+// and rebuilt from the schedules table by the nightly reconciliation.
+@Entity
+@Table(name = "daily_revenue")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "revenueDate")
+public class DailyRevenue {
+
+    @Id
+    @Column(name = "revenue_date")
+    private LocalDate revenueDate;
+
+    @Column(name = "paid_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal paidAmount;
+
+    @Column(name = "paid_classes", nullable = false)
+    private Integer paidClasses;
+
+    @Column(name = "pending_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal pendingAmount;
+}
@@ -0,0 +1,35 @@
+package com.sarahpilates.domain.schedule;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Seat counter for one group class slot (instructor, date, start time). Bookings claim seats
+// with a conditional UPDATE, so the counter can never pass the class type capacity.
+@Entity
+@Table(name = "class_slots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ClassSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "instructor_id", nullable = false)
+    private Long instructorId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private int bookedCount;
+}
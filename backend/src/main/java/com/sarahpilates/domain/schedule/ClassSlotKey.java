@@ -0,0 +1,17 @@
+package com.sarahpilates.domain.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Identifies a group class slot: every booking with the same instructor, date and start time
+// shares its seats.
+public record ClassSlotKey(
+    Long instructorId,
+    LocalDate date,
+    LocalTime startTime
+) {
+
+    public static ClassSlotKey of(ScheduleSnapshot schedule) {
+        return new ClassSlotKey(schedule.instructorId(), schedule.date(), schedule.startTime());
+    }
+}
@@ -21,8 +21,11 @@ import java.time.LocalTime;
 @EqualsAndHashCode(of = "id")
 public class Schedule {
 
+    // Table-backed pooled ids let Hibernate batch inserts, which IDENTITY would disable.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_id")
+    @TableGenerator(name = "schedule_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "schedules", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
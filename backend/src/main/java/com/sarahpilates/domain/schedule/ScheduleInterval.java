@@ -0,0 +1,47 @@
+package com.sarahpilates.domain.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Locale;
+import java.util.Objects;
+
+// The part of a Schedule that matters for double-booking checks.
+public record ScheduleInterval(
+    Long id,
+    Long instructorId,
+    Long classTypeId,
+    String room,
+    LocalDate date,
+    LocalTime startTime,
+    LocalTime endTime
+) {
+
+    public LocalDateTime start() {
+        return date.atTime(startTime);
+    }
+
+    public LocalDateTime end() {
+        return date.atTime(endTime);
+    }
+
+    public boolean overlaps(ScheduleInterval other) {
+        return start().isBefore(other.end()) && other.start().isBefore(end());
+    }
+
+    // Students booked into the same group class share instructor, room and time without conflicting.
+    public boolean sameSlotAs(ScheduleInterval other) {
+        return Objects.equals(instructorId, other.instructorId)
+                && Objects.equals(classTypeId, other.classTypeId)
+                && date.equals(other.date)
+                && startTime.equals(other.startTime)
+                && endTime.equals(other.endTime);
+    }
+
+    public String roomKey() {
+        if (room == null || room.isBlank()) {
+            return null;
+        }
+        return room.trim().toLowerCase(Locale.ROOT);
+    }
+}
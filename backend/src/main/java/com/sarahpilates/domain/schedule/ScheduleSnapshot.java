@@ -0,0 +1,55 @@
+package com.sarahpilates.domain.schedule;
+
+import com.sarahpilates.domain.enums.PaymentStatus;
+import com.sarahpilates.domain.enums.ScheduleStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Immutable copy of a Schedule's state, taken before and after a write so listeners can tell
+// what changed without touching the (possibly detached) entity.
+public record ScheduleSnapshot(
+    Long id,
+    Long studentId,
+    Long instructorId,
+    Long classTypeId,
+    LocalDate date,
+    LocalTime startTime,
+    LocalTime endTime,
+    ScheduleStatus status,
+    PaymentStatus paymentStatus,
+    BigDecimal price,
+    String room
+) {
+
+    public static ScheduleSnapshot of(Schedule schedule) {
+        return new ScheduleSnapshot(
+                schedule.getId(),
+                schedule.getStudent().getId(),
+                schedule.getInstructor().getId(),
+                schedule.getClassType().getId(),
+                schedule.getDate(),
+                schedule.getStartTime(),
+                schedule.getEndTime(),
+                schedule.getStatus(),
+                schedule.getPaymentStatus(),
+                schedule.getPrice(),
+                schedule.getRoom()
+        );
+    }
+
+    public ScheduleSnapshot withStatus(ScheduleStatus newStatus, PaymentStatus newPaymentStatus) {
+        return new ScheduleSnapshot(id, studentId, instructorId, classTypeId, date, startTime, endTime,
+                newStatus, newPaymentStatus, price, room);
+    }
+
+    public ScheduleInterval toInterval() {
+        return new ScheduleInterval(id, instructorId, classTypeId, room, date, startTime, endTime);
+    }
+
+    // The interval this schedule blocks, or null when it no longer holds its slot.
+    public ScheduleInterval activeInterval() {
+        return status.occupiesSlot() ? toInterval() : null;
+    }
+}
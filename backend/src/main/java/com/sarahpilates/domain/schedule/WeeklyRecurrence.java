@@ -0,0 +1,64 @@
+package com.sarahpilates.domain.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+public record WeeklyRecurrence(
+    Set<DayOfWeek> daysOfWeek,
+    int interval,
+    LocalDate startDate,
+    LocalDate endDate,
+    Integer count
+) {
+
+    public static final int MAX_OCCURRENCES = 366;
+
+    public WeeklyRecurrence {
+        if (daysOfWeek == null || daysOfWeek.isEmpty()) {
+            throw new IllegalArgumentException("At least one day of week is required");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least 1 week");
+        }
+        if (endDate == null && count == null) {
+            throw new IllegalArgumentException("Either an end date or an occurrence count is required");
+        }
+        if (endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        daysOfWeek = new TreeSet<>(daysOfWeek);
+    }
+
+    // Dates of every occurrence, in order. Weeks are counted from the week containing startDate.
+    public List<LocalDate> expand() {
+        int limit = count != null ? count : MAX_OCCURRENCES + 1;
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate weekStart = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        while (dates.size() < limit) {
+            for (DayOfWeek day : daysOfWeek) {
+                LocalDate date = weekStart.with(TemporalAdjusters.nextOrSame(day));
+                if (date.isBefore(startDate)) {
+                    continue;
+                }
+                if ((endDate != null && date.isAfter(endDate)) || dates.size() >= limit) {
+                    return checked(dates);
+                }
+                dates.add(date);
+            }
+            weekStart = weekStart.plusWeeks(interval);
+        }
+        return checked(dates);
+    }
+
+    private static List<LocalDate> checked(List<LocalDate> dates) {
+        if (dates.size() > MAX_OCCURRENCES) {
+            throw new IllegalArgumentException("A series cannot have more than " + MAX_OCCURRENCES + " occurrences");
+        }
+        return dates;
+    }
+}
@@ -16,7 +16,9 @@ import java.time.LocalDateTime;
 public class Document {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "document_id")
+    @TableGenerator(name = "document_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "documents", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,6 +37,11 @@ public class Document {
 
     private long size;
 
+    // SHA-256 of the content, which is also the stored file's name. Null for files uploaded
+    // before content addressing.
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(nullable = false)
     private LocalDateTime uploadDate;
 }
@@ -0,0 +1,14 @@
+package com.sarahpilates.dto.availability;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// A continuous free stretch inside an instructor's working hours that is long enough for the
+// requested class. The class may start anywhere between startTime and endTime minus its duration.
+public record AvailabilityWindowDTO(
+    Long instructorId,
+    String instructorName,
+    LocalDate date,
+    LocalTime startTime,
+    LocalTime endTime
+) {}
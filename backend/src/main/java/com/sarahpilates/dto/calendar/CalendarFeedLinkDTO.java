@@ -0,0 +1,5 @@
+package com.sarahpilates.dto.calendar;
+
+public record CalendarFeedLinkDTO(
+    String url
+) {}
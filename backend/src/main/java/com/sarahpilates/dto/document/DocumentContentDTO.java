@@ -0,0 +1,13 @@
+package com.sarahpilates.dto.document;
+
+import org.springframework.core.io.Resource;
+
+import java.time.LocalDateTime;
+
+public record DocumentContentDTO(
+    Resource resource,
+    String fileName,
+    String fileType,
+    String contentHash, // null for documents stored before content addressing
+    LocalDateTime uploadDate
+) {}
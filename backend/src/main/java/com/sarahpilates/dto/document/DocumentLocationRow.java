@@ -0,0 +1,7 @@
+package com.sarahpilates.dto.document;
+
+public record DocumentLocationRow(
+    Long id,
+    String filePath,
+    String contentHash
+) {}
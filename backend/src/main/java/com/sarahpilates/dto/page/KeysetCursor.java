@@ -0,0 +1,62 @@
+package com.sarahpilates.dto.page;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+// Opaque continuation token: the sort key of the last row handed out, Base64url-encoded.
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String[] parts;
+
+    private KeysetCursor(String[] parts) {
+        this.parts = parts;
+    }
+
+    public static String encode(Object... values) {
+        String raw = Arrays.stream(values).map(String::valueOf).collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(parts);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    public LocalDate date(int index) {
+        try {
+            return LocalDate.parse(parts[index]);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    public LocalTime time(int index) {
+        try {
+            return LocalTime.parse(parts[index]);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    public Long id(int index) {
+        try {
+            return Long.valueOf(parts[index]);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
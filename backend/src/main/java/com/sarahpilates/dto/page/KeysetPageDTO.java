@@ -0,0 +1,31 @@
+package com.sarahpilates.dto.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One page of a keyset (seek) scroll. Pass nextCursor back unchanged to get the following page.
+public record KeysetPageDTO<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public static int clampSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    // Repositories fetch size + 1 rows; the extra row only tells us whether another page exists.
+    public static <E, T> KeysetPageDTO<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new KeysetPageDTO<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
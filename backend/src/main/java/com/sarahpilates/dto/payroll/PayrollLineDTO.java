@@ -0,0 +1,12 @@
+package com.sarahpilates.dto.payroll;
+
+import java.math.BigDecimal;
+
+public record PayrollLineDTO(
+    Long instructorId,
+    String instructorName,
+    Long sessions,
+    Long minutes,
+    BigDecimal hourlyRate,
+    BigDecimal amount
+) {}
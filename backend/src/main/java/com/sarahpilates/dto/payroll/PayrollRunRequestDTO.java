@@ -0,0 +1,10 @@
+package com.sarahpilates.dto.payroll;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record PayrollRunRequestDTO(
+    @NotNull LocalDate periodStart,
+    @NotNull LocalDate periodEnd
+) {}
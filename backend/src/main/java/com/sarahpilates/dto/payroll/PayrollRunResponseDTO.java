@@ -0,0 +1,19 @@
+package com.sarahpilates.dto.payroll;
+
+import com.sarahpilates.domain.enums.PayrollRunStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PayrollRunResponseDTO(
+    Long id,
+    LocalDate periodStart,
+    LocalDate periodEnd,
+    PayrollRunStatus status,
+    BigDecimal totalAmount,
+    LocalDateTime computedAt,
+    LocalDateTime closedAt,
+    List<PayrollLineDTO> lines
+) {}
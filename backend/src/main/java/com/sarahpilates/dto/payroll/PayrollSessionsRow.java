@@ -0,0 +1,12 @@
+package com.sarahpilates.dto.payroll;
+
+import java.math.BigDecimal;
+
+// Delivered sessions of one instructor in a period, as aggregated by the database.
+public record PayrollSessionsRow(
+    Long instructorId,
+    String instructorName,
+    BigDecimal hourlyRate,
+    Long sessions,
+    Long minutes
+) {}
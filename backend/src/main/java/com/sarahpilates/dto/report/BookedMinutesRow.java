@@ -0,0 +1,10 @@
+package com.sarahpilates.dto.report;
+
+import java.time.LocalDate;
+
+// Minutes an instructor spent teaching on one day, with every group class counted once.
+public record BookedMinutesRow(
+    Long instructorId,
+    LocalDate date,
+    Long minutes
+) {}
@@ -0,0 +1,16 @@
+package com.sarahpilates.dto.report;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// utilization is booked minutes as a percentage of available minutes, or null when the
+// instructor had no working hours in the period.
+public record InstructorUtilizationDTO(
+    Long instructorId,
+    String instructorName,
+    LocalDate periodStart,
+    LocalDate periodEnd,
+    long bookedMinutes,
+    long availableMinutes,
+    BigDecimal utilization
+) {}
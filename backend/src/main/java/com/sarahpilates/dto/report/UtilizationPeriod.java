@@ -0,0 +1,6 @@
+package com.sarahpilates.dto.report;
+
+public enum UtilizationPeriod {
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,14 @@
+package com.sarahpilates.dto.schedule;
+
+public record ScheduleBulkResultDTO(
+    Long id,
+    Outcome outcome,
+    String message
+) {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        REJECTED
+    }
+}
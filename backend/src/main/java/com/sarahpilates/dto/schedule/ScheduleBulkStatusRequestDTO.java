@@ -0,0 +1,16 @@
+package com.sarahpilates.dto.schedule;
+
+import com.sarahpilates.domain.enums.PaymentStatus;
+import com.sarahpilates.domain.enums.ScheduleStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// Either status may be left out to keep the current value.
+public record ScheduleBulkStatusRequestDTO(
+    @NotEmpty @Size(max = 500) List<@NotNull Long> ids,
+    ScheduleStatus status,
+    PaymentStatus paymentStatus
+) {}
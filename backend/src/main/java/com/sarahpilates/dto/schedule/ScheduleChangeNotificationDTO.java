@@ -0,0 +1,10 @@
+package com.sarahpilates.dto.schedule;
+
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+
+// Pushed to stream subscribers; before is null for creations and after is null for deletions.
+public record ScheduleChangeNotificationDTO(
+    Long scheduleId,
+    ScheduleSnapshot before,
+    ScheduleSnapshot after
+) {}
@@ -0,0 +1,6 @@
+package com.sarahpilates.dto.schedule;
+
+public enum ScheduleExportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,29 @@
+package com.sarahpilates.dto.schedule;
+
+import com.sarahpilates.domain.enums.PaymentStatus;
+import com.sarahpilates.domain.enums.ScheduleStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Flat read model filled by a single JPQL constructor expression, so listing
+// schedules never initializes Student, Instructor or ClassType entities.
+public record ScheduleRowDTO(
+    Long id,
+    Long studentId,
+    String studentName,
+    Long instructorId,
+    String instructorName,
+    Long classTypeId,
+    String classTypeName,
+    String classTypeColor,
+    LocalDate date,
+    LocalTime startTime,
+    LocalTime endTime,
+    ScheduleStatus status,
+    PaymentStatus paymentStatus,
+    BigDecimal price,
+    String room,
+    String notes
+) {}
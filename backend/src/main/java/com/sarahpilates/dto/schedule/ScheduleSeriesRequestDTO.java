@@ -0,0 +1,37 @@
+package com.sarahpilates.dto.schedule;
+
+import com.sarahpilates.domain.enums.PaymentStatus;
+import com.sarahpilates.domain.enums.ScheduleStatus;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+// Weekly recurrence in the spirit of RRULE:FREQ=WEEKLY;INTERVAL=n;BYDAY=...;UNTIL=...|COUNT=...
+// At least one of endDate and count is required; the series stops at whichever comes first.
+public record ScheduleSeriesRequestDTO(
+    @NotNull Long studentId,
+    @NotNull Long instructorId,
+    @NotNull Long classTypeId,
+
+    @NotEmpty Set<DayOfWeek> daysOfWeek,
+    @Min(1) Integer interval,
+    @NotNull @FutureOrPresent LocalDate startDate,
+    LocalDate endDate,
+    @Min(1) Integer count,
+
+    @NotNull LocalTime startTime,
+    @NotNull LocalTime endTime,
+
+    @NotNull ScheduleStatus status,
+    @NotNull PaymentStatus paymentStatus,
+    BigDecimal price,
+    String room,
+    String notes
+) {}
@@ -0,0 +1,18 @@
+package com.sarahpilates.dto.student;
+
+import java.util.List;
+
+// errorsTruncated is set when there were more failed rows than the report lists.
+public record StudentImportResultDTO(
+    long totalRows,
+    long imported,
+    long failed,
+    List<RowError> errors,
+    boolean errorsTruncated
+) {
+
+    public record RowError(
+        long line,
+        String message
+    ) {}
+}
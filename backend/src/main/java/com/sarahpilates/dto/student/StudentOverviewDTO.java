@@ -0,0 +1,15 @@
+package com.sarahpilates.dto.student;
+
+import com.sarahpilates.dto.evaluation.EvolutionRecordResponseDTO;
+import com.sarahpilates.dto.evaluation.PhysicalEvaluationResponseDTO;
+import com.sarahpilates.dto.page.KeysetPageDTO;
+import com.sarahpilates.dto.schedule.ScheduleResponseDTO;
+
+// Everything the student profile shows on open. The evaluation pages carry cursors for the
+// scroll endpoints; nextClass is null when nothing is booked.
+public record StudentOverviewDTO(
+    StudentResponseDTO student,
+    ScheduleResponseDTO nextClass,
+    KeysetPageDTO<PhysicalEvaluationResponseDTO> physicalEvaluations,
+    KeysetPageDTO<EvolutionRecordResponseDTO> evolutionRecords
+) {}
@@ -6,29 +6,38 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 
 public record StudentRequestDTO(
     @NotBlank(message = "Name cannot be blank")
+    @Size(max = 255, message = "Name must have at most 255 characters")
     String name,
 
     @Email(message = "Email should be valid")
+    @Size(max = 255, message = "Email must have at most 255 characters")
     String email,
 
+    @Size(max = 50, message = "Phone must have at most 50 characters")
     String phone,
 
     @PastOrPresent(message = "Birth date must be in the past or present")
     LocalDate birthDate,
 
+    @Size(max = 20, message = "Sex must have at most 20 characters")
     String sex,
 
+    @Size(max = 255, message = "Address must have at most 255 characters")
     String address,
+    @Size(max = 255, message = "Emergency contact must have at most 255 characters")
     String emergencyContact,
+    @Size(max = 50, message = "Emergency phone must have at most 50 characters")
     String emergencyPhone,
 
     @NotNull(message = "Status cannot be null")
     StudentStatus status,
 
+    @Size(max = 100, message = "Plan must have at most 100 characters")
     String plan,
 
     @Valid
@@ -0,0 +1,13 @@
+package com.sarahpilates.dto.student;
+
+import com.sarahpilates.domain.enums.StudentStatus;
+
+// List-view row filled by a JPQL constructor expression: six columns, no anamnesis, no documents.
+public record StudentSummaryDTO(
+    Long id,
+    String name,
+    String email,
+    String phone,
+    StudentStatus status,
+    String plan
+) {}
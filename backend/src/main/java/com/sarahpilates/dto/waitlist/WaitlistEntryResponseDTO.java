@@ -0,0 +1,24 @@
+package com.sarahpilates.dto.waitlist;
+
+import com.sarahpilates.domain.enums.WaitlistStatus;
+import com.sarahpilates.dto.schedule.ClassTypeInfoDTO;
+import com.sarahpilates.dto.schedule.InstructorInfoDTO;
+import com.sarahpilates.dto.schedule.StudentInfoDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public record WaitlistEntryResponseDTO(
+    Long id,
+    StudentInfoDTO student,
+    InstructorInfoDTO instructor,
+    ClassTypeInfoDTO classType,
+    LocalDate date,
+    LocalTime startTime,
+    LocalTime endTime,
+    WaitlistStatus status,
+    Long scheduleId,
+    LocalDateTime createdAt,
+    LocalDateTime promotedAt
+) {}
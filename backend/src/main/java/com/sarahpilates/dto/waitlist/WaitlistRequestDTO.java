@@ -0,0 +1,21 @@
+package com.sarahpilates.dto.waitlist;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record WaitlistRequestDTO(
+    @NotNull Long studentId,
+    @NotNull Long instructorId,
+    @NotNull Long classTypeId,
+
+    @NotNull @FutureOrPresent LocalDate date,
+    @NotNull LocalTime startTime,
+    @NotNull LocalTime endTime,
+
+    BigDecimal price,
+    String room
+) {}
@@ -0,0 +1,6 @@
+package com.sarahpilates.event;
+
+// Published by InstructorService whenever an instructor or its working hours are written.
+public record InstructorChangedEvent(
+    Long instructorId
+) {}
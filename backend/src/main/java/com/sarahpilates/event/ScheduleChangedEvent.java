@@ -0,0 +1,15 @@
+package com.sarahpilates.event;
+
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+
+// Published by ScheduleService for every schedule write. before is null for creations and
+// after is null for deletions.
+public record ScheduleChangedEvent(
+    ScheduleSnapshot before,
+    ScheduleSnapshot after
+) {
+
+    public Long scheduleId() {
+        return after != null ? after.id() : before.id();
+    }
+}
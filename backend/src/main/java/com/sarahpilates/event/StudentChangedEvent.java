@@ -0,0 +1,6 @@
+package com.sarahpilates.event;
+
+// Published by StudentService whenever a student is created, updated or deleted.
+public record StudentChangedEvent(
+    Long studentId
+) {}
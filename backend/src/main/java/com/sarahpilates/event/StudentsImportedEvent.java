@@ -0,0 +1,8 @@
+package com.sarahpilates.event;
+
+import java.util.List;
+
+// Published once per imported batch, in place of one StudentChangedEvent per student.
+public record StudentsImportedEvent(
+    List<Long> studentIds
+) {}
@@ -0,0 +1,11 @@
+package com.sarahpilates.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ClassFullException extends RuntimeException {
+    public ClassFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.sarahpilates.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ScheduleConflictException extends RuntimeException {
+
+    private final List<Long> conflictingScheduleIds;
+
+    public ScheduleConflictException(List<Long> conflictingScheduleIds) {
+        super("Schedule overlaps existing bookings for the same instructor or room");
+        this.conflictingScheduleIds = List.copyOf(conflictingScheduleIds);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sarahpilates.mapper;
+
+import com.sarahpilates.domain.payroll.PayrollLine;
+import com.sarahpilates.domain.payroll.PayrollRun;
+import com.sarahpilates.dto.payroll.PayrollLineDTO;
+import com.sarahpilates.dto.payroll.PayrollRunResponseDTO;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface PayrollMapper {
+
+    PayrollRunResponseDTO toResponseDTO(PayrollRun run);
+
+    PayrollLineDTO toLineDTO(PayrollLine line);
+}
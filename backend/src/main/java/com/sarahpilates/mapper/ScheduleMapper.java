@@ -1,8 +1,12 @@
 package com.sarahpilates.mapper;
 
 import com.sarahpilates.domain.schedule.Schedule;
+import com.sarahpilates.dto.schedule.ClassTypeInfoDTO;
+import com.sarahpilates.dto.schedule.InstructorInfoDTO;
 import com.sarahpilates.dto.schedule.ScheduleRequestDTO;
 import com.sarahpilates.dto.schedule.ScheduleResponseDTO;
+import com.sarahpilates.dto.schedule.ScheduleRowDTO;
+import com.sarahpilates.dto.schedule.StudentInfoDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -28,4 +32,21 @@ public interface ScheduleMapper {
     @Mapping(target = "instructor", ignore = true)
     @Mapping(target = "classType", ignore = true)
     void updateEntityFromDto(ScheduleRequestDTO dto, @MappingTarget Schedule entity);
+
+    default ScheduleResponseDTO toResponseDTO(ScheduleRowDTO row) {
+        return new ScheduleResponseDTO(
+                row.id(),
+                new StudentInfoDTO(row.studentId(), row.studentName()),
+                new InstructorInfoDTO(row.instructorId(), row.instructorName()),
+                new ClassTypeInfoDTO(row.classTypeId(), row.classTypeName(), row.classTypeColor()),
+                row.date(),
+                row.startTime(),
+                row.endTime(),
+                row.status(),
+                row.paymentStatus(),
+                row.price(),
+                row.room(),
+                row.notes()
+        );
+    }
 }
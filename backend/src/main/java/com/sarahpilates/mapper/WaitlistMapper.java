@@ -0,0 +1,10 @@
+package com.sarahpilates.mapper;
+
+import com.sarahpilates.domain.schedule.WaitlistEntry;
+import com.sarahpilates.dto.waitlist.WaitlistEntryResponseDTO;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface WaitlistMapper {
+    WaitlistEntryResponseDTO toResponseDTO(WaitlistEntry entry);
+}
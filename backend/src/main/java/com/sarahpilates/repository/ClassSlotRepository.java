@@ -0,0 +1,51 @@
+package com.sarahpilates.repository;
+
+import com.sarahpilates.domain.schedule.ClassSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+@Repository
+public interface ClassSlotRepository extends JpaRepository<ClassSlot, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO class_slots (instructor_id, date, start_time, booked_count) "
+            + "VALUES (:instructorId, :date, :startTime, 0) ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    void ensureExists(@Param("instructorId") Long instructorId,
+                      @Param("date") LocalDate date,
+                      @Param("startTime") LocalTime startTime);
+
+    // Compare-and-increment: matches no row once the slot is full. The row lock it takes is held
+    // only by this slot's writers until commit; nothing else in the table is blocked.
+    @Modifying
+    @Query(value = "UPDATE class_slots SET booked_count = booked_count + :seats "
+            + "WHERE instructor_id = :instructorId AND date = :date AND start_time = :startTime "
+            + "AND booked_count + :seats <= :capacity", nativeQuery = true)
+    int tryClaim(@Param("instructorId") Long instructorId,
+                 @Param("date") LocalDate date,
+                 @Param("startTime") LocalTime startTime,
+                 @Param("seats") int seats,
+                 @Param("capacity") int capacity);
+
+    @Modifying
+    @Query(value = "UPDATE class_slots SET booked_count = GREATEST(booked_count - :seats, 0) "
+            + "WHERE instructor_id = :instructorId AND date = :date AND start_time = :startTime", nativeQuery = true)
+    int release(@Param("instructorId") Long instructorId,
+                @Param("date") LocalDate date,
+                @Param("startTime") LocalTime startTime,
+                @Param("seats") int seats);
+
+    // Locks the slot row until commit, so no claim can slip in between the read and the caller's
+    // decision.
+    @Query(value = "SELECT booked_count FROM class_slots "
+            + "WHERE instructor_id = :instructorId AND date = :date AND start_time = :startTime FOR UPDATE", nativeQuery = true)
+    Optional<Integer> lockBookedCount(@Param("instructorId") Long instructorId,
+                                      @Param("date") LocalDate date,
+                                      @Param("startTime") LocalTime startTime);
+}
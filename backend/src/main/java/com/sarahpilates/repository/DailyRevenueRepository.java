@@ -0,0 +1,45 @@
+package com.sarahpilates.repository;
+
+import com.sarahpilates.domain.revenue.DailyRevenue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Repository
+public interface DailyRevenueRepository extends JpaRepository<DailyRevenue, LocalDate> {
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_revenue (revenue_date, paid_amount, paid_classes, pending_amount) "
+            + "VALUES (:date, :paidAmount, :paidClasses, :pendingAmount) ON DUPLICATE KEY UPDATE "
+            + "paid_amount = paid_amount + VALUES(paid_amount), "
+            + "paid_classes = paid_classes + VALUES(paid_classes), "
+            + "pending_amount = pending_amount + VALUES(pending_amount)", nativeQuery = true)
+    void addDelta(@Param("date") LocalDate date,
+                  @Param("paidAmount") BigDecimal paidAmount,
+                  @Param("paidClasses") int paidClasses,
+                  @Param("pendingAmount") BigDecimal pendingAmount);
+
+    @Query("SELECT COALESCE(SUM(d.paidAmount), 0) FROM DailyRevenue d WHERE d.revenueDate BETWEEN :startDate AND :endDate")
+    BigDecimal sumPaidBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_revenue WHERE revenue_date >= :fromDate", nativeQuery = true)
+    void deleteFrom(@Param("fromDate") LocalDate fromDate);
+
+    // Same rules as RevenueService.accumulate: cancelled classes and classes without a price
+    // do not count.
+    @Modifying
+    @Query(value = "INSERT INTO daily_revenue (revenue_date, paid_amount, paid_classes, pending_amount) "
+            + "SELECT date, "
+            + "SUM(CASE WHEN payment_status = 'PAGO' THEN price ELSE 0 END), "
+            + "SUM(CASE WHEN payment_status = 'PAGO' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN payment_status = 'PENDENTE' THEN price ELSE 0 END) "
+            + "FROM schedules WHERE date >= :fromDate AND status <> 'CANCELADO' AND price IS NOT NULL "
+            + "GROUP BY date", nativeQuery = true)
+    int rebuildFrom(@Param("fromDate") LocalDate fromDate);
+}
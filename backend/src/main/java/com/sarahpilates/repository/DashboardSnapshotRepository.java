@@ -0,0 +1,28 @@
+package com.sarahpilates.repository;
+
+import com.sarahpilates.domain.dashboard.DashboardSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface DashboardSnapshotRepository extends JpaRepository<DashboardSnapshot, LocalDate> {
+
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_snapshots (snapshot_date, total_students, today_classes, taken_at) "
+            + "VALUES (:date, :totalStudents, :todayClasses, :takenAt) ON DUPLICATE KEY UPDATE "
+            + "total_students = VALUES(total_students), today_classes = VALUES(today_classes), "
+            + "taken_at = VALUES(taken_at)", nativeQuery = true)
+    void upsert(@Param("date") LocalDate date,
+                @Param("totalStudents") long totalStudents,
+                @Param("todayClasses") long todayClasses,
+                @Param("takenAt") LocalDateTime takenAt);
+
+    Optional<DashboardSnapshot> findFirstBySnapshotDateLessThanOrderBySnapshotDateDesc(LocalDate date);
+}
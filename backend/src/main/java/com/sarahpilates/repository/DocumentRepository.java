@@ -1,9 +1,25 @@
 package com.sarahpilates.repository;
 
 import com.sarahpilates.domain.student.Document;
+import com.sarahpilates.dto.document.DocumentLocationRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, Long> {
+
+    // Number of documents referencing a stored file
+    long countByContentHash(String contentHash);
+
+    @Query("SELECT d.filePath FROM Document d")
+    List<String> findAllFilePaths();
+
+    @Query("SELECT new com.sarahpilates.dto.document.DocumentLocationRow(d.id, d.filePath, d.contentHash) "
+            + "FROM Document d WHERE d.id > :afterId ORDER BY d.id ASC")
+    List<DocumentLocationRow> findLocationsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -4,9 +4,27 @@ import com.sarahpilates.domain.evaluation.EvolutionRecord;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 public interface EvolutionRecordRepository extends JpaRepository<EvolutionRecord, Long> {
     Page<EvolutionRecord> findByStudentId(Long studentId, Pageable pageable);
+
+    // Keyset scroll, most recent first, on (date, id).
+    @Query("SELECT r FROM EvolutionRecord r JOIN FETCH r.student JOIN FETCH r.instructor "
+            + "WHERE r.date < :date OR (r.date = :date AND r.id < :id) ORDER BY r.date DESC, r.id DESC")
+    List<EvolutionRecord> findBefore(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT r FROM EvolutionRecord r JOIN FETCH r.student JOIN FETCH r.instructor "
+            + "WHERE r.student.id = :studentId AND (r.date < :date OR (r.date = :date AND r.id < :id)) "
+            + "ORDER BY r.date DESC, r.id DESC")
+    List<EvolutionRecord> findByStudentBefore(@Param("studentId") Long studentId,
+                                              @Param("date") LocalDate date,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
 }
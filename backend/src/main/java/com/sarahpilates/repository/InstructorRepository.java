@@ -1,13 +1,42 @@
 package com.sarahpilates.repository;
 
+import com.sarahpilates.domain.enums.InstructorStatus;
 import com.sarahpilates.domain.instructor.Instructor;
+import com.sarahpilates.domain.instructor.WorkingHoursSlot;
+import com.sarahpilates.dto.schedule.InstructorInfoDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InstructorRepository extends JpaRepository<Instructor, Long> {
     Optional<Instructor> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    String WORKING_HOURS_SELECT = "SELECT new com.sarahpilates.domain.instructor.WorkingHoursSlot("
+            + "i.id, i.name, wh.dayOfWeek, wh.startTime, wh.endTime) "
+            + "FROM WorkingHours wh JOIN wh.instructor i "
+            + "WHERE wh.isAvailable = true AND (i.status IS NULL OR i.status = :status)";
+
+    // Flat working hours of every instructor with the given status; no Instructor entity is loaded.
+    @Query(WORKING_HOURS_SELECT)
+    List<WorkingHoursSlot> findWorkingHoursSlots(@Param("status") InstructorStatus status);
+
+    @Query(WORKING_HOURS_SELECT + " AND i.id = :instructorId")
+    List<WorkingHoursSlot> findWorkingHoursSlotsByInstructor(@Param("instructorId") Long instructorId,
+                                                             @Param("status") InstructorStatus status);
+
+    // Available working hours regardless of the instructor's current status, for reports over
+    // past periods.
+    @Query("SELECT new com.sarahpilates.domain.instructor.WorkingHoursSlot("
+            + "i.id, i.name, wh.dayOfWeek, wh.startTime, wh.endTime) "
+            + "FROM WorkingHours wh JOIN wh.instructor i WHERE wh.isAvailable = true")
+    List<WorkingHoursSlot> findAllWorkingHoursSlots();
+
+    @Query("SELECT new com.sarahpilates.dto.schedule.InstructorInfoDTO(i.id, i.name) FROM Instructor i")
+    List<InstructorInfoDTO> findAllInfo();
 }
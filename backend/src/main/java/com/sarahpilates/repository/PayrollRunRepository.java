@@ -0,0 +1,35 @@
+package com.sarahpilates.repository;
+
+import com.sarahpilates.domain.payroll.PayrollRun;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+
+    @EntityGraph(attributePaths = "lines")
+    Optional<PayrollRun> findByPeriodStartAndPeriodEnd(LocalDate periodStart, LocalDate periodEnd);
+
+    // Runs sharing at least one day with the period, other than the run of that exact period
+    @Query("SELECT COUNT(r) > 0 FROM PayrollRun r WHERE r.periodStart <= :periodEnd AND r.periodEnd >= :periodStart "
+            + "AND NOT (r.periodStart = :periodStart AND r.periodEnd = :periodEnd)")
+    boolean existsOverlapping(@Param("periodStart") LocalDate periodStart, @Param("periodEnd") LocalDate periodEnd);
+
+    // Serializes run creation: the overlap check and the insert happen under this row lock, so two
+    // overlapping periods cannot both pass the check before either commits.
+    @Query(value = "SELECT name FROM app_locks WHERE name = 'payroll_runs' FOR UPDATE", nativeQuery = true)
+    String lockRuns();
+
+    @EntityGraph(attributePaths = "lines")
+    Optional<PayrollRun> findWithLinesById(Long id);
+
+    @EntityGraph(attributePaths = "lines")
+    List<PayrollRun> findAllByOrderByPeriodStartDesc();
+}
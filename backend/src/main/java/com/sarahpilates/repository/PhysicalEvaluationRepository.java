@@ -4,9 +4,27 @@ import com.sarahpilates.domain.evaluation.PhysicalEvaluation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 public interface PhysicalEvaluationRepository extends JpaRepository<PhysicalEvaluation, Long> {
     Page<PhysicalEvaluation> findByStudentId(Long studentId, Pageable pageable);
+
+    // Keyset scroll, most recent first, on (date, id).
+    @Query("SELECT e FROM PhysicalEvaluation e JOIN FETCH e.student JOIN FETCH e.instructor "
+            + "WHERE e.date < :date OR (e.date = :date AND e.id < :id) ORDER BY e.date DESC, e.id DESC")
+    List<PhysicalEvaluation> findBefore(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT e FROM PhysicalEvaluation e JOIN FETCH e.student JOIN FETCH e.instructor "
+            + "WHERE e.student.id = :studentId AND (e.date < :date OR (e.date = :date AND e.id < :id)) "
+            + "ORDER BY e.date DESC, e.id DESC")
+    List<PhysicalEvaluation> findByStudentBefore(@Param("studentId") Long studentId,
+                                                 @Param("date") LocalDate date,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
 }
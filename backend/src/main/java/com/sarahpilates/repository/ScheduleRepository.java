@@ -1,16 +1,142 @@
 package com.sarahpilates.repository;
 
+import com.sarahpilates.domain.enums.PaymentStatus;
+import com.sarahpilates.domain.enums.ScheduleStatus;
 import com.sarahpilates.domain.schedule.Schedule;
+import com.sarahpilates.domain.schedule.ScheduleInterval;
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+import com.sarahpilates.dto.payroll.PayrollSessionsRow;
+import com.sarahpilates.dto.report.BookedMinutesRow;
+import com.sarahpilates.dto.schedule.ScheduleRowDTO;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
-    List<Schedule> findByDateBetween(LocalDate startDate, LocalDate endDate);
+
+    String ROW_SELECT = "SELECT new com.sarahpilates.dto.schedule.ScheduleRowDTO("
+            + "s.id, st.id, st.name, i.id, i.name, ct.id, ct.name, ct.color, "
+            + "s.date, s.startTime, s.endTime, s.status, s.paymentStatus, s.price, s.room, s.notes) "
+            + "FROM Schedule s JOIN s.student st JOIN s.instructor i JOIN s.classType ct";
+
+    String INTERVAL_SELECT = "SELECT new com.sarahpilates.domain.schedule.ScheduleInterval("
+            + "s.id, s.instructor.id, s.classType.id, s.room, s.date, s.startTime, s.endTime) "
+            + "FROM Schedule s";
+
+    // Read path for listings: one query for the rows and one for the count, which only
+    // touches the (date, start_time) index.
+    @Query(value = ROW_SELECT + " WHERE s.date BETWEEN :startDate AND :endDate ORDER BY s.date ASC, s.startTime ASC, s.id ASC",
+            countQuery = "SELECT COUNT(s.id) FROM Schedule s WHERE s.date BETWEEN :startDate AND :endDate")
+    Page<ScheduleRowDTO> findRowsByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, Pageable pageable);
+
+    @Query(value = ROW_SELECT, countQuery = "SELECT COUNT(s.id) FROM Schedule s")
+    Page<ScheduleRowDTO> findAllRows(Pageable pageable);
+
+    // Forward-only read for exports. Integer.MIN_VALUE as fetch size makes MySQL Connector/J stream
+    // the result row by row; rows are projections, so nothing accumulates in the persistence context.
+    // Must be consumed inside a read-only transaction, and the stream closed.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query(ROW_SELECT + " WHERE s.date BETWEEN :startDate AND :endDate ORDER BY s.date ASC, s.startTime ASC, s.id ASC")
+    Stream<ScheduleRowDTO> streamRowsByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Keyset scroll on (date, startTime, id): each page is an index range seek, however deep it is.
+    @Query(ROW_SELECT + " WHERE s.date <= :endDate AND (s.date > :date OR (s.date = :date AND "
+            + "(s.startTime > :startTime OR (s.startTime = :startTime AND s.id > :id)))) "
+            + "ORDER BY s.date ASC, s.startTime ASC, s.id ASC")
+    List<ScheduleRowDTO> findRowsAfter(@Param("date") LocalDate date,
+                                       @Param("startTime") LocalTime startTime,
+                                       @Param("id") Long id,
+                                       @Param("endDate") LocalDate endDate,
+                                       Pageable pageable);
+
+    @Query(INTERVAL_SELECT + " WHERE s.instructor.id = :instructorId AND s.date >= :fromDate AND s.status <> :excludedStatus")
+    List<ScheduleInterval> findIntervalsByInstructor(@Param("instructorId") Long instructorId,
+                                                     @Param("fromDate") LocalDate fromDate,
+                                                     @Param("excludedStatus") ScheduleStatus excludedStatus);
+
+    @Query(INTERVAL_SELECT + " WHERE LOWER(TRIM(s.room)) = :roomKey AND s.date >= :fromDate AND s.status <> :excludedStatus")
+    List<ScheduleInterval> findIntervalsByRoom(@Param("roomKey") String roomKey,
+                                               @Param("fromDate") LocalDate fromDate,
+                                               @Param("excludedStatus") ScheduleStatus excludedStatus);
+
     long countByDate(LocalDate date);
     Optional<Schedule> findFirstByStudentIdAndDateAfterOrderByDateAscStartTimeAsc(Long studentId, LocalDate date);
+
+    @Query(ROW_SELECT + " WHERE i.id = :instructorId AND s.date BETWEEN :startDate AND :endDate "
+            + "AND s.status <> :excludedStatus ORDER BY s.date ASC, s.startTime ASC, s.id ASC")
+    List<ScheduleRowDTO> findRowsByInstructorAndDateBetween(@Param("instructorId") Long instructorId,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate,
+                                                            @Param("excludedStatus") ScheduleStatus excludedStatus);
+
+    @Query(ROW_SELECT + " WHERE s.id IN :ids")
+    List<ScheduleRowDTO> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Id of the first schedule of each student on or after fromDate. The correlated LIMIT 1
+    // subquery walks the (student_id, date, start_time) index in order and stops at the first
+    // entry, so each student costs one index seek however many future classes they have.
+    @Query(value = "SELECT firsts.id FROM (SELECT (SELECT s.id FROM schedules s "
+            + "WHERE s.student_id = st.id AND s.date >= :fromDate "
+            + "ORDER BY s.date, s.start_time, s.id LIMIT 1) AS id "
+            + "FROM students st WHERE st.id IN (:studentIds)) firsts "
+            + "WHERE firsts.id IS NOT NULL", nativeQuery = true)
+    List<Long> findNextScheduleIds(@Param("studentIds") Collection<Long> studentIds, @Param("fromDate") LocalDate fromDate);
+
+    // SELECT ... FOR UPDATE: status writers read through these, so a change computed from the
+    // rows' state is applied to that same state and seats are never released twice.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Schedule s WHERE s.id = :id")
+    Optional<Schedule> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Schedule s WHERE s.id IN :ids")
+    List<Schedule> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // A null status or payment status leaves that column as it is.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Schedule s SET s.status = COALESCE(:status, s.status), "
+            + "s.paymentStatus = COALESCE(:paymentStatus, s.paymentStatus) WHERE s.id IN :ids")
+    int updateStatuses(@Param("ids") Collection<Long> ids,
+                       @Param("status") ScheduleStatus status,
+                       @Param("paymentStatus") PaymentStatus paymentStatus);
+
+    // Booked minutes per instructor and day. The inner DISTINCT collapses the bookings of a group
+    // class into one slot, so the database returns one small row per teaching day.
+    @Query("SELECT new com.sarahpilates.dto.report.BookedMinutesRow(x.instructorId, x.date, SUM(x.minutes)) "
+            + "FROM (SELECT DISTINCT s.instructor.id AS instructorId, s.date AS date, s.startTime AS startTime, "
+            + "(HOUR(s.endTime) * 60 + MINUTE(s.endTime)) - (HOUR(s.startTime) * 60 + MINUTE(s.startTime)) AS minutes "
+            + "FROM Schedule s WHERE s.date BETWEEN :startDate AND :endDate AND s.status <> :excludedStatus) x "
+            + "GROUP BY x.instructorId, x.date")
+    List<BookedMinutesRow> sumBookedMinutesByInstructorAndDate(@Param("startDate") LocalDate startDate,
+                                                               @Param("endDate") LocalDate endDate,
+                                                               @Param("excludedStatus") ScheduleStatus excludedStatus);
+
+    // Sessions delivered per instructor: a group class is one session however many students
+    // attended it.
+    @Query("SELECT new com.sarahpilates.dto.payroll.PayrollSessionsRow(i.id, i.name, i.hourlyRate, COUNT(x.minutes), SUM(x.minutes)) "
+            + "FROM (SELECT DISTINCT s.instructor.id AS instructorId, s.date AS date, s.startTime AS startTime, "
+            + "(HOUR(s.endTime) * 60 + MINUTE(s.endTime)) - (HOUR(s.startTime) * 60 + MINUTE(s.startTime)) AS minutes "
+            + "FROM Schedule s WHERE s.date BETWEEN :startDate AND :endDate AND s.status = :status) x "
+            + "JOIN Instructor i ON i.id = x.instructorId "
+            + "GROUP BY i.id, i.name, i.hourlyRate")
+    List<PayrollSessionsRow> sumSessionsByInstructor(@Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate,
+                                                     @Param("status") ScheduleStatus status);
 }
@@ -1,9 +1,38 @@
 package com.sarahpilates.repository;
 
 import com.sarahpilates.domain.student.Student;
+import com.sarahpilates.dto.student.StudentSummaryDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
+
+    String SUMMARY_SELECT = "SELECT new com.sarahpilates.dto.student.StudentSummaryDTO("
+            + "s.id, s.name, s.email, s.phone, s.status, s.plan) FROM Student s";
+
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(s.id) FROM Student s")
+    Page<StudentSummaryDTO> findAllSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT)
+    List<StudentSummaryDTO> findAllSummaryList();
+
+    @Query(SUMMARY_SELECT + " WHERE s.id = :id")
+    Optional<StudentSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + " WHERE s.id IN :ids")
+    List<StudentSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT LOWER(s.email) FROM Student s WHERE s.email IS NOT NULL")
+    List<String> findAllEmailsLowercase();
+
+    boolean existsByEmail(String email);
 }
@@ -0,0 +1,44 @@
+package com.sarahpilates.repository;
+
+import com.sarahpilates.domain.enums.WaitlistStatus;
+import com.sarahpilates.domain.schedule.ClassSlotKey;
+import com.sarahpilates.domain.schedule.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    // Head of the queue, locked for the promoting transaction. SKIP LOCKED lets a concurrent
+    // promotion of the same slot move on to the next student instead of waiting.
+    @Query(value = "SELECT * FROM waitlist_entries WHERE instructor_id = :instructorId AND date = :date "
+            + "AND start_time = :startTime AND status = 'AGUARDANDO' ORDER BY created_at, id LIMIT 1 "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<WaitlistEntry> findNextWaitingForUpdate(@Param("instructorId") Long instructorId,
+                                                     @Param("date") LocalDate date,
+                                                     @Param("startTime") LocalTime startTime);
+
+    @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.student JOIN FETCH w.instructor JOIN FETCH w.classType "
+            + "WHERE w.instructor.id = :instructorId AND w.date = :date AND w.startTime = :startTime "
+            + "AND w.status = :status ORDER BY w.createdAt, w.id")
+    List<WaitlistEntry> findBySlot(@Param("instructorId") Long instructorId,
+                                   @Param("date") LocalDate date,
+                                   @Param("startTime") LocalTime startTime,
+                                   @Param("status") WaitlistStatus status);
+
+    boolean existsByStudentIdAndInstructorIdAndDateAndStartTimeAndStatus(Long studentId, Long instructorId,
+                                                                          LocalDate date, LocalTime startTime,
+                                                                          WaitlistStatus status);
+
+    // One key per waiting entry; used to rebuild the in-memory index of slots with a queue.
+    @Query("SELECT new com.sarahpilates.domain.schedule.ClassSlotKey(w.instructor.id, w.date, w.startTime) "
+            + "FROM WaitlistEntry w WHERE w.status = :status AND w.date >= :fromDate")
+    List<ClassSlotKey> findSlotKeys(@Param("status") WaitlistStatus status, @Param("fromDate") LocalDate fromDate);
+}
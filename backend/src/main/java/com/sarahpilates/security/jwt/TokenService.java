@@ -9,8 +9,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -75,4 +79,23 @@ public class TokenService {
             return false;
         }
     }
+
+    // Calendar apps cannot send a bearer token, so each instructor's feed URL carries a fixed
+    // HMAC of the instructor id instead. Rotating jwt.secret revokes every feed URL.
+    public String calendarFeedToken(Long instructorId) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(getSecretKey());
+            byte[] digest = mac.doFinal(("calendar:" + instructorId).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    public boolean validateCalendarFeedToken(Long instructorId, String token) {
+        return token != null && MessageDigest.isEqual(
+                calendarFeedToken(instructorId).getBytes(StandardCharsets.US_ASCII),
+                token.getBytes(StandardCharsets.US_ASCII));
+    }
 }
@@ -0,0 +1,207 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.classtype.ClassType;
+import com.sarahpilates.domain.enums.InstructorStatus;
+import com.sarahpilates.domain.instructor.WorkingHoursSlot;
+import com.sarahpilates.domain.schedule.ScheduleInterval;
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+import com.sarahpilates.dto.availability.AvailabilityWindowDTO;
+import com.sarahpilates.event.InstructorChangedEvent;
+import com.sarahpilates.event.ScheduleChangedEvent;
+import com.sarahpilates.repository.ClassTypeRepository;
+import com.sarahpilates.repository.InstructorRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+// Answers "when is instructor X free" from two in-memory sources: a weekly bitmap per instructor
+// built from WorkingHours, and the bookings held by ScheduleConflictService. Each (instructor, day)
+// bitmap is 288 bits (5-minute slots) and is cached until a schedule or working-hours change for
+// that instructor and day replaces it.
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    public static final int SLOT_MINUTES = 5;
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int MAX_RANGE_DAYS = 31;
+
+    private final InstructorRepository instructorRepository;
+    private final ClassTypeRepository classTypeRepository;
+    private final ScheduleConflictService scheduleConflictService;
+
+    private final ConcurrentMap<Long, WeeklyTemplate> templates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<DayKey, BitSet> freeSlots = new ConcurrentHashMap<>();
+    private volatile boolean templatesLoaded;
+
+    // Either classTypeId or durationMinutes must be given; instructorId is optional.
+    public List<AvailabilityWindowDTO> findAvailability(Long instructorId, Long classTypeId, Integer durationMinutes,
+                                                        LocalDate startDate, LocalDate endDate) {
+        int duration = resolveDuration(classTypeId, durationMinutes);
+        LocalDate today = LocalDate.now();
+        LocalDate from = startDate.isBefore(today) ? today : startDate;
+        if (endDate.isBefore(from)) {
+            return List.of();
+        }
+        if (ChronoUnit.DAYS.between(from, endDate) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Availability can be queried for at most " + MAX_RANGE_DAYS + " days at a time");
+        }
+
+        ensureTemplatesLoaded();
+        freeSlots.keySet().removeIf(key -> key.date().isBefore(today));
+
+        List<WeeklyTemplate> candidates = instructorId == null
+                ? templates.values().stream().sorted(Comparator.comparing(WeeklyTemplate::instructorName)).toList()
+                : templates.containsKey(instructorId) ? List.of(templates.get(instructorId)) : List.of();
+
+        int slotsNeeded = (duration + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        List<AvailabilityWindowDTO> windows = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(endDate); date = date.plusDays(1)) {
+            for (WeeklyTemplate template : candidates) {
+                BitSet free = freeSlots.computeIfAbsent(new DayKey(template.instructorId(), date), this::computeFreeSlots);
+                if (date.equals(today)) {
+                    free = (BitSet) free.clone();
+                    free.clear(0, Math.min(SLOTS_PER_DAY, slotCeil(LocalTime.now())));
+                }
+                collectWindows(template, date, free, slotsNeeded, windows);
+            }
+        }
+        return windows;
+    }
+
+    // Bookings are already reflected in ScheduleConflictService when this runs; on rollback the
+    // index is restored first, so recomputing after completion in both cases sees the final state.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        refreshDay(event.before());
+        refreshDay(event.after());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInstructorChanged(InstructorChangedEvent event) {
+        if (!templatesLoaded) {
+            return;
+        }
+        List<WorkingHoursSlot> slots = instructorRepository.findWorkingHoursSlotsByInstructor(event.instructorId(), InstructorStatus.ATIVO);
+        if (slots.isEmpty()) {
+            templates.remove(event.instructorId());
+        } else {
+            templates.put(event.instructorId(), WeeklyTemplate.of(slots));
+        }
+        freeSlots.keySet().removeIf(key -> key.instructorId().equals(event.instructorId()));
+    }
+
+    private void refreshDay(ScheduleSnapshot snapshot) {
+        if (snapshot != null) {
+            freeSlots.computeIfPresent(new DayKey(snapshot.instructorId(), snapshot.date()), (key, stale) -> computeFreeSlots(key));
+        }
+    }
+
+    private BitSet computeFreeSlots(DayKey key) {
+        WeeklyTemplate template = templates.get(key.instructorId());
+        BitSet free = template == null ? new BitSet(SLOTS_PER_DAY) : (BitSet) template.workingSlots(key.date().getDayOfWeek()).clone();
+        for (ScheduleInterval booking : scheduleConflictService.bookingsFor(key.instructorId(), key.date())) {
+            int from = slotFloor(booking.startTime());
+            int to = slotCeil(booking.endTime());
+            if (to > from) {
+                free.clear(from, to);
+            }
+        }
+        return free;
+    }
+
+    private static void collectWindows(WeeklyTemplate template, LocalDate date, BitSet free, int slotsNeeded,
+                                       List<AvailabilityWindowDTO> windows) {
+        int start = free.nextSetBit(0);
+        while (start >= 0) {
+            int end = free.nextClearBit(start);
+            if (end - start >= slotsNeeded) {
+                windows.add(new AvailabilityWindowDTO(
+                        template.instructorId(),
+                        template.instructorName(),
+                        date,
+                        slotTime(start),
+                        end >= SLOTS_PER_DAY ? LocalTime.MAX.truncatedTo(ChronoUnit.MINUTES) : slotTime(end)
+                ));
+            }
+            start = free.nextSetBit(end);
+        }
+    }
+
+    private int resolveDuration(Long classTypeId, Integer durationMinutes) {
+        if (classTypeId != null) {
+            return classTypeRepository.findById(classTypeId)
+                    .map(ClassType::getDuration)
+                    .orElseThrow(() -> new EntityNotFoundException("ClassType not found with id: " + classTypeId));
+        }
+        if (durationMinutes == null || durationMinutes < 1) {
+            throw new IllegalArgumentException("Either classTypeId or a positive duration is required");
+        }
+        return durationMinutes;
+    }
+
+    private synchronized void ensureTemplatesLoaded() {
+        if (templatesLoaded) {
+            return;
+        }
+        instructorRepository.findWorkingHoursSlots(InstructorStatus.ATIVO).stream()
+                .collect(Collectors.groupingBy(WorkingHoursSlot::instructorId))
+                .forEach((id, slots) -> templates.put(id, WeeklyTemplate.of(slots)));
+        templatesLoaded = true;
+    }
+
+    private static int slotFloor(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    private static int slotCeil(LocalTime time) {
+        int minutes = time.getHour() * 60 + time.getMinute() + (time.getSecond() > 0 || time.getNano() > 0 ? 1 : 0);
+        return Math.min(SLOTS_PER_DAY, (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES);
+    }
+
+    private static LocalTime slotTime(int slot) {
+        return LocalTime.MIDNIGHT.plusMinutes((long) slot * SLOT_MINUTES);
+    }
+
+    private record DayKey(Long instructorId, LocalDate date) {}
+
+    private record WeeklyTemplate(Long instructorId, String instructorName, Map<DayOfWeek, BitSet> byDay) {
+
+        static WeeklyTemplate of(List<WorkingHoursSlot> slots) {
+            Map<DayOfWeek, BitSet> byDay = new EnumMap<>(DayOfWeek.class);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                byDay.put(day, new BitSet(SLOTS_PER_DAY));
+            }
+            // Only slots that lie entirely inside the working period are bookable.
+            slots.forEach(slot -> {
+                int from = slotCeil(slot.startTime());
+                int to = slotFloor(slot.endTime());
+                if (to > from) {
+                    byDay.get(slot.dayOfWeek()).set(from, to);
+                }
+            });
+            WorkingHoursSlot first = slots.get(0);
+            return new WeeklyTemplate(first.instructorId(), first.instructorName(), byDay);
+        }
+
+        BitSet workingSlots(DayOfWeek day) {
+            return byDay.get(day);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.enums.ScheduleStatus;
+import com.sarahpilates.dto.schedule.ScheduleRowDTO;
+import com.sarahpilates.event.InstructorChangedEvent;
+import com.sarahpilates.event.ScheduleChangedEvent;
+import com.sarahpilates.repository.InstructorRepository;
+import com.sarahpilates.repository.ScheduleRepository;
+import com.sarahpilates.security.jwt.TokenService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// iCalendar feed of an instructor's classes from PAST_DAYS ago to FUTURE_DAYS ahead. Each
+// instructor has an in-memory version that every committed change to one of their schedules
+// bumps; the ETag is built from it, so a poll with an unchanged calendar is answered without
+// querying the database.
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+    private static final int PAST_DAYS = 30;
+    private static final int FUTURE_DAYS = 180;
+    private static final DateTimeFormatter ICS_LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter ICS_UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final ScheduleRepository scheduleRepository;
+    private final InstructorRepository instructorRepository;
+    private final TokenService tokenService;
+
+    // Versions restart at zero with the process; the boot id keeps old ETags from matching.
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final ConcurrentMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Transactional(readOnly = true)
+    public String feedPath(Long instructorId) {
+        if (!instructorRepository.existsById(instructorId)) {
+            throw new EntityNotFoundException("Instructor not found");
+        }
+        return "/api/calendar/instructors/" + instructorId + ".ics?token=" + tokenService.calendarFeedToken(instructorId);
+    }
+
+    public boolean isValidToken(Long instructorId, String token) {
+        return tokenService.validateCalendarFeedToken(instructorId, token);
+    }
+
+    // The window moves every day, so the day is part of the tag.
+    public String etag(Long instructorId) {
+        return "\"" + bootId + "-" + LocalDate.now().toEpochDay() + "-" + version(instructorId).get() + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public String render(Long instructorId) {
+        LocalDate today = LocalDate.now();
+        List<ScheduleRowDTO> rows = scheduleRepository.findRowsByInstructorAndDateBetween(
+                instructorId, today.minusDays(PAST_DAYS), today.plusDays(FUTURE_DAYS), ScheduleStatus.CANCELADO);
+
+        // A group class is one event with all its students
+        Map<String, List<ScheduleRowDTO>> events = new LinkedHashMap<>();
+        for (ScheduleRowDTO row : rows) {
+            String uid = "class-" + instructorId + "-" + row.date() + "-" + row.startTime() + "-" + row.classTypeId() + "@sarahpilates";
+            events.computeIfAbsent(uid, key -> new ArrayList<>()).add(row);
+        }
+
+        String stamp = LocalDateTime.now(ZoneOffset.UTC).format(ICS_UTC);
+        StringBuilder ics = new StringBuilder();
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//Sarah Pilates//Agenda//PT");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "X-WR-CALNAME:" + escape(rows.isEmpty() ? "Sarah Pilates" : "Sarah Pilates - " + rows.get(0).instructorName()));
+        events.forEach((uid, students) -> {
+            ScheduleRowDTO first = students.get(0);
+            String summary = students.size() == 1
+                    ? first.classTypeName() + " - " + first.studentName()
+                    : first.classTypeName() + " (" + students.size() + " alunos)";
+            line(ics, "BEGIN:VEVENT");
+            line(ics, "UID:" + uid);
+            line(ics, "DTSTAMP:" + stamp);
+            line(ics, "DTSTART:" + first.date().atTime(first.startTime()).format(ICS_LOCAL));
+            line(ics, "DTEND:" + first.date().atTime(first.endTime()).format(ICS_LOCAL));
+            line(ics, "SUMMARY:" + escape(summary));
+            if (first.room() != null && !first.room().isBlank()) {
+                line(ics, "LOCATION:" + escape(first.room()));
+            }
+            if (students.size() > 1) {
+                line(ics, "DESCRIPTION:" + escape(String.join("\n", students.stream().map(ScheduleRowDTO::studentName).toList())));
+            }
+            line(ics, "END:VEVENT");
+        });
+        line(ics, "END:VCALENDAR");
+        return ics.toString();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.before() != null) {
+            version(event.before().instructorId()).incrementAndGet();
+        }
+        if (event.after() != null && (event.before() == null || !event.after().instructorId().equals(event.before().instructorId()))) {
+            version(event.after().instructorId()).incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInstructorChanged(InstructorChangedEvent event) {
+        version(event.instructorId()).incrementAndGet();
+    }
+
+    private AtomicLong version(Long instructorId) {
+        return versions.computeIfAbsent(instructorId, id -> new AtomicLong());
+    }
+
+    // RFC 5545 text escaping
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\n", "\\n");
+    }
+
+    // Content lines end in CRLF and are folded at 75 octets.
+    private static void line(StringBuilder ics, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= 75) {
+            ics.append(content).append("\r\n");
+            return;
+        }
+        int octets = 0;
+        int limit = 75;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + size > limit) {
+                ics.append("\r\n ");
+                octets = 0;
+                limit = 74;
+            }
+            ics.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        ics.append("\r\n");
+    }
+}
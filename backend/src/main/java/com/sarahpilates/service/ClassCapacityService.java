@@ -0,0 +1,66 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.schedule.ClassSlotKey;
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+import com.sarahpilates.exception.ClassFullException;
+import com.sarahpilates.repository.ClassSlotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// Keeps class_slots.booked_count in step with the schedules that hold a seat. All methods join
+// the caller's transaction, so a rolled-back booking gives its seat back automatically.
+@Service
+@RequiredArgsConstructor
+public class ClassCapacityService {
+
+    private final ClassSlotRepository classSlotRepository;
+
+    @Transactional
+    public void claim(ScheduleSnapshot schedule, int capacity) {
+        if (!tryClaim(schedule, capacity)) {
+            throw new ClassFullException("Class on " + schedule.date() + " at " + schedule.startTime()
+                    + " is full (capacity " + capacity + ")");
+        }
+    }
+
+    @Transactional
+    public boolean tryClaim(ScheduleSnapshot schedule, int capacity) {
+        classSlotRepository.ensureExists(schedule.instructorId(), schedule.date(), schedule.startTime());
+        return classSlotRepository.tryClaim(schedule.instructorId(), schedule.date(), schedule.startTime(), 1, capacity) > 0;
+    }
+
+    private void checkFits(ScheduleSnapshot schedule, int capacity) {
+        int booked = classSlotRepository.lockBookedCount(schedule.instructorId(), schedule.date(), schedule.startTime())
+                .orElse(0);
+        if (booked > capacity) {
+            throw new ClassFullException("Class on " + schedule.date() + " at " + schedule.startTime()
+                    + " has " + booked + " students, more than capacity " + capacity);
+        }
+    }
+
+    @Transactional
+    public void release(ScheduleSnapshot schedule) {
+        classSlotRepository.release(schedule.instructorId(), schedule.date(), schedule.startTime(), 1);
+    }
+
+    // Moves the seat when an update changes the slot, or changes whether the schedule holds one.
+    // Staying in the slot under another class type keeps the seat but must fit the new capacity.
+    @Transactional
+    public void move(ScheduleSnapshot before, ScheduleSnapshot after, int capacity) {
+        boolean held = before.status().occupiesSlot();
+        boolean holds = after.status().occupiesSlot();
+        if (held && holds && ClassSlotKey.of(before).equals(ClassSlotKey.of(after))) {
+            if (!before.classTypeId().equals(after.classTypeId())) {
+                checkFits(after, capacity);
+            }
+            return;
+        }
+        if (held) {
+            release(before);
+        }
+        if (holds) {
+            claim(after, capacity);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sarahpilates.service;
+
+import java.math.BigDecimal;
+
+// RFC 4180 field quoting for the CSV exports.
+final class CsvFormat {
+
+    private CsvFormat() {
+    }
+
+    static String field(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    static String row(Object... values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(field(values[i]));
+        }
+        return line.append('\n').toString();
+    }
+}
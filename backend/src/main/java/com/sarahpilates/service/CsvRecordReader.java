@@ -0,0 +1,89 @@
+package com.sarahpilates.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Incremental RFC 4180 reader: one record per call, quoted fields may hold delimiters, doubled
+// quotes and line breaks. Only the current record is ever held in memory.
+final class CsvRecordReader {
+
+    private final BufferedReader reader;
+    private char delimiter;
+    private long line;
+    private long recordLine;
+
+    CsvRecordReader(Reader reader, char delimiter) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.delimiter = delimiter;
+    }
+
+    void setDelimiter(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    // Line number where the last record returned by next() started.
+    long recordLine() {
+        return recordLine;
+    }
+
+    // Null at end of input. Blank lines are skipped.
+    List<String> next() throws IOException {
+        String text = reader.readLine();
+        while (text != null && text.isBlank()) {
+            line++;
+            text = reader.readLine();
+        }
+        if (text == null) {
+            return null;
+        }
+        line++;
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == text.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Line break inside a quoted field
+                String continuation = reader.readLine();
+                if (continuation == null) {
+                    break;
+                }
+                line++;
+                field.append('\n');
+                text = continuation;
+                i = 0;
+                continue;
+            }
+            char c = text.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < text.length() && text.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -1,30 +1,132 @@
 package com.sarahpilates.service;
 
+import com.sarahpilates.domain.dashboard.DashboardSnapshot;
 import com.sarahpilates.dto.dashboard.DashboardStatsDTO;
+import com.sarahpilates.event.ScheduleChangedEvent;
+import com.sarahpilates.event.StudentChangedEvent;
+import com.sarahpilates.event.StudentsImportedEvent;
+import com.sarahpilates.repository.DashboardSnapshotRepository;
 import com.sarahpilates.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+// Readers always get the last computed stats straight from memory. Once those are older than
+// MAX_AGE, or a student or schedule write has committed since, the next read starts a single
+// background refresh and keeps serving the previous figures until it lands.
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
     private final StudentRepository studentRepository;
     private final ScheduleService scheduleService;
+    private final RevenueService revenueService;
+    private final DashboardSnapshotRepository dashboardSnapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<CachedStats> cache = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
 
-    @Transactional(readOnly = true)
     public DashboardStatsDTO getDashboardStats() {
+        CachedStats cached = cache.get();
+        if (cached == null) {
+            return refresh();
+        }
+        if (cached.generation() != generation.get() || cached.computedAt().plus(MAX_AGE).isBefore(Instant.now())) {
+            refreshInBackground();
+        }
+        return cached.stats();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudentChanged(StudentChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudentsImported(StudentsImportedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    // Guarantees a snapshot for every day, even when nobody opened the dashboard.
+    @Scheduled(cron = "${dashboard.snapshot-cron:0 55 23 * * *}")
+    public void takeDailySnapshot() {
+        refresh();
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("dashboard-refresh").start(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException ex) {
+                log.warn("Dashboard refresh failed", ex);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private DashboardStatsDTO refresh() {
+        // Read before computing: a write committed meanwhile leaves the result marked stale.
+        long startedAt = generation.get();
+        DashboardStatsDTO stats = transactionTemplate.execute(status -> compute());
+        CachedStats computed = new CachedStats(stats, Instant.now(), startedAt);
+        cache.accumulateAndGet(computed, (current, next) ->
+                current != null && current.generation() > next.generation() ? current : next);
+        return stats;
+    }
+
+    private DashboardStatsDTO compute() {
+        LocalDate today = LocalDate.now();
         long totalStudents = studentRepository.count();
         long todayClasses = scheduleService.countTodayClasses();
-        
-        // Mocked revenue for now
-        BigDecimal revenue = new BigDecimal("18200.00");
-        String revenueChange = "+12%";
-        String studentsChange = "+4";
-        String classesChange = "Normal";
+
+        // Month to date, compared with the same days of the previous month
+        LocalDate monthStart = today.withDayOfMonth(1);
+        LocalDate previousStart = monthStart.minusMonths(1);
+        LocalDate previousEnd = previousStart.withDayOfMonth(Math.min(today.getDayOfMonth(), previousStart.lengthOfMonth()));
+        BigDecimal revenue = revenueService.paidBetween(monthStart, today);
+        String revenueChange = percentChange(revenue, revenueService.paidBetween(previousStart, previousEnd));
+
+        // Students against the last snapshot of the previous month, classes against the same
+        // weekday last week
+        String studentsChange = dashboardSnapshotRepository.findFirstBySnapshotDateLessThanOrderBySnapshotDateDesc(monthStart)
+                .map(baseline -> signed(totalStudents - baseline.getTotalStudents()))
+                .orElse("N/A");
+        String classesChange = dashboardSnapshotRepository.findById(today.minusWeeks(1))
+                .map(DashboardSnapshot::getTodayClasses)
+                .filter(baseline -> baseline != todayClasses)
+                .map(baseline -> signed(todayClasses - baseline))
+                .orElse("Normal");
+
+        dashboardSnapshotRepository.upsert(today, totalStudents, todayClasses, LocalDateTime.now());
 
         return new DashboardStatsDTO(
             revenue,
@@ -35,4 +137,20 @@ public class DashboardService {
             classesChange
         );
     }
+
+    private static String signed(long delta) {
+        return delta > 0 ? "+" + delta : String.valueOf(delta);
+    }
+
+    private static String percentChange(BigDecimal current, BigDecimal previous) {
+        if (previous.signum() == 0) {
+            return current.signum() == 0 ? "0%" : "N/A";
+        }
+        BigDecimal change = current.subtract(previous)
+                .multiply(HUNDRED)
+                .divide(previous, 0, RoundingMode.HALF_UP);
+        return (change.signum() > 0 ? "+" : "") + change.toPlainString() + "%";
+    }
+
+    private record CachedStats(DashboardStatsDTO stats, Instant computedAt, long generation) {}
 }
@@ -0,0 +1,92 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.dto.document.DocumentLocationRow;
+import com.sarahpilates.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Brings documents stored before the sharded layout into it: UUID-named uploads from before
+// content addressing, and hashed files kept flat in the upload root. Runs in the background at
+// startup and resumes where it stopped, since rows already in the layout are recognised by their
+// path. Files are linked into place before the rows change, and the old ones are left to the
+// orphan sweep, which removes them only after its grace period, so a download that read the old
+// path keeps finding it.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentStorageMigrationService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final DocumentRepository documentRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInBackground() {
+        Thread.ofVirtual().name("document-storage-migration").start(() -> {
+            try {
+                migrate();
+            } catch (RuntimeException ex) {
+                log.warn("Document storage migration failed", ex);
+            }
+        });
+    }
+
+    public void migrate() {
+        long afterId = 0;
+        int migrated = 0;
+        List<DocumentLocationRow> batch;
+        do {
+            batch = documentRepository.findLocationsAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).id();
+            migrated += migrateBatch(batch);
+        } while (batch.size() == BATCH_SIZE);
+        if (migrated > 0) {
+            log.info("Moved {} documents into the sharded storage layout", migrated);
+        }
+    }
+
+    private int migrateBatch(List<DocumentLocationRow> batch) {
+        Map<Long, FileStorageService.StoredFile> placed = new HashMap<>();
+        for (DocumentLocationRow row : batch) {
+            if (fileStorageService.isInShardLayout(row.filePath(), row.contentHash())) {
+                continue;
+            }
+            try {
+                placed.put(row.id(), fileStorageService.adopt(Paths.get(row.filePath()), row.contentHash()));
+                // Before the commit: the sweep must see a fresh timestamp by the time the row
+                // stops pointing here.
+                fileStorageService.markReleased(Paths.get(row.filePath()));
+            } catch (IOException ex) {
+                log.warn("Could not move document {} stored at {}", row.id(), row.filePath(), ex);
+            }
+        }
+        if (placed.isEmpty()) {
+            return 0;
+        }
+
+        // One transaction per batch; the updates go out as JDBC batches.
+        transactionTemplate.executeWithoutResult(status ->
+                documentRepository.findAllById(placed.keySet()).forEach(document -> {
+                    FileStorageService.StoredFile stored = placed.get(document.getId());
+                    document.setFilePath(stored.path());
+                    document.setContentHash(stored.contentHash());
+                }));
+        return placed.size();
+    }
+}
@@ -8,6 +8,8 @@ import com.sarahpilates.dto.evaluation.EvolutionRecordRequestDTO;
 import com.sarahpilates.dto.evaluation.EvolutionRecordResponseDTO;
 import com.sarahpilates.dto.evaluation.PhysicalEvaluationRequestDTO;
 import com.sarahpilates.dto.evaluation.PhysicalEvaluationResponseDTO;
+import com.sarahpilates.dto.page.KeysetCursor;
+import com.sarahpilates.dto.page.KeysetPageDTO;
 import com.sarahpilates.mapper.EvolutionRecordMapper;
 import com.sarahpilates.mapper.PhysicalEvaluationMapper;
 import com.sarahpilates.repository.EvolutionRecordRepository;
@@ -17,10 +19,12 @@ import com.sarahpilates.repository.StudentRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +32,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EvaluationService {
 
+    private static final LocalDate SCROLL_CEILING = LocalDate.of(9999, 12, 31);
+
     private final PhysicalEvaluationRepository physicalEvaluationRepository;
     private final EvolutionRecordRepository evolutionRecordRepository;
     private final StudentRepository studentRepository;
@@ -75,6 +81,26 @@ public class EvaluationService {
                 .map(physicalEvaluationMapper::toResponseDTO);
     }
 
+    // studentId is optional; without it the scroll covers every student.
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<PhysicalEvaluationResponseDTO> scrollPhysicalEvaluations(Long studentId, String cursor, Integer size) {
+        int pageSize = KeysetPageDTO.clampSize(size);
+        LocalDate date = SCROLL_CEILING;
+        Long id = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor, 2);
+            date = position.date(0);
+            id = position.id(1);
+        }
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PhysicalEvaluation> rows = studentId == null
+                ? physicalEvaluationRepository.findBefore(date, id, limit)
+                : physicalEvaluationRepository.findByStudentBefore(studentId, date, id, limit);
+        return KeysetPageDTO.of(rows, pageSize, physicalEvaluationMapper::toResponseDTO,
+                eval -> KeysetCursor.encode(eval.getDate(), eval.getId()));
+    }
+
     @Transactional
     public PhysicalEvaluationResponseDTO updatePhysicalEvaluation(Long id, PhysicalEvaluationRequestDTO dto) {
         PhysicalEvaluation existingEval = physicalEvaluationRepository.findById(id)
@@ -134,6 +160,26 @@ public class EvaluationService {
                 .map(evolutionRecordMapper::toResponseDTO);
     }
 
+    // studentId is optional; without it the scroll covers every student.
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<EvolutionRecordResponseDTO> scrollEvolutionRecords(Long studentId, String cursor, Integer size) {
+        int pageSize = KeysetPageDTO.clampSize(size);
+        LocalDate date = SCROLL_CEILING;
+        Long id = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor, 2);
+            date = position.date(0);
+            id = position.id(1);
+        }
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<EvolutionRecord> rows = studentId == null
+                ? evolutionRecordRepository.findBefore(date, id, limit)
+                : evolutionRecordRepository.findByStudentBefore(studentId, date, id, limit);
+        return KeysetPageDTO.of(rows, pageSize, evolutionRecordMapper::toResponseDTO,
+                record -> KeysetCursor.encode(record.getDate(), record.getId()));
+    }
+
     @Transactional
     public EvolutionRecordResponseDTO updateEvolutionRecord(Long id, EvolutionRecordRequestDTO dto) {
         EvolutionRecord existingRecord = evolutionRecordRepository.findById(id)
@@ -1,29 +1,62 @@
 package com.sarahpilates.service;
 
 import com.sarahpilates.config.FileStorageProperties;
+import com.sarahpilates.repository.DocumentRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+// Documents are stored content-addressed: the file name is the SHA-256 of the content, so the same
+// PDF uploaded for several students, or uploaded twice, is kept once. Files are spread over two
+// directory levels taken from the hash (ab/cd/abcd...), so no directory grows past a few entries.
+// Document rows are the references; a nightly sweep removes files no row points to any more.
 @Service
 @Slf4j
 public class FileStorageService {
 
+    private static final long TRANSFER_CHUNK = 1 << 20;
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+    // UUID-prefixed names given to uploads before content addressing
+    private static final Pattern LEGACY_NAME = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}_.*");
+    // Files younger than this are never swept, so an upload whose row is not committed yet is safe
+    private static final Duration ORPHAN_GRACE = Duration.ofDays(1);
+    private static final String SWEEP_SUFFIX = ".sweep";
+
     private final Path fileStorageLocation;
+    private final DocumentRepository documentRepository;
 
-    public FileStorageService(FileStorageProperties fileStorageProperties) {
+    public FileStorageService(FileStorageProperties fileStorageProperties, DocumentRepository documentRepository) {
         this.fileStorageLocation = Paths.get(fileStorageProperties.getUploadDir())
                 .toAbsolutePath().normalize();
+        this.documentRepository = documentRepository;
     }
 
     @PostConstruct
@@ -36,44 +69,214 @@ public class FileStorageService {
         }
     }
 
-    public String storeFile(MultipartFile file) {
-        // Normalize file name
-        String originalFileName = file.getOriginalFilename();
-        if (originalFileName == null) {
+    // Streams the upload into a temporary file through a channel transfer while hashing it, then
+    // moves it into place under its hash. When that hash is already stored the copy is dropped.
+    public StoredFile storeFile(MultipartFile file) {
+        if (file.getOriginalFilename() == null) {
             throw new RuntimeException("Could not store file. Original filename is null.");
         }
-        
-        // Generate a unique file name to avoid collisions
-        String uniqueFileName = UUID.randomUUID().toString() + "_" + originalFileName.replaceAll("\\s+", "_");
 
+        Path temp = null;
         try {
-            // Check if the filename contains invalid characters
-            if (uniqueFileName.contains(".." )) {
-                throw new RuntimeException("Sorry! Filename contains invalid path sequence " + uniqueFileName);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            temp = Files.createTempFile(this.fileStorageLocation, "upload-", ".tmp");
+            long size = 0;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = target.transferFrom(source, size, TRANSFER_CHUNK)) > 0) {
+                    size += transferred;
+                }
+            }
+
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            Path targetLocation = locationOf(contentHash);
+            // Touching the existing file keeps it out of the sweep's reach even when its last
+            // reference was deleted; a file the sweep has just moved aside is written again.
+            if (touch(targetLocation)) {
+                Files.delete(temp);
+            } else {
+                Files.createDirectories(targetLocation.getParent());
+                try {
+                    Files.move(temp, targetLocation, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ex) {
+                    // Same content stored concurrently
+                    Files.delete(temp);
+                }
             }
+            return new StoredFile(targetLocation.toString(), contentHash, size);
+        } catch (IOException ex) {
+            deleteQuietly(temp);
+            throw new RuntimeException("Could not store file " + file.getOriginalFilename() + ". Please try again!", ex);
+        } catch (NoSuchAlgorithmException ex) {
+            deleteQuietly(temp);
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    // Handle to a stored file without checking it on disk, for callers that may answer without
+    // reading it (conditional requests).
+    public Resource resourceFor(String filePath) {
+        return new FileSystemResource(Paths.get(filePath));
+    }
+
+    public Path locationOf(String contentHash) {
+        return this.fileStorageLocation
+                .resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
 
-            // Copy file to the target location (Replacing existing file with the same name)
-            Path targetLocation = this.fileStorageLocation.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    public boolean isInShardLayout(String filePath, String contentHash) {
+        return contentHash != null && Paths.get(filePath).equals(locationOf(contentHash));
+    }
+
+    // Gives an existing file its place in the sharded layout, hashing it first when the hash is
+    // not known. The file is hard-linked (or copied where links are not supported), never moved,
+    // so downloads reading the old path keep working until the caller removes it.
+    public StoredFile adopt(Path existing, String knownHash) throws IOException {
+        String contentHash = knownHash != null ? knownHash : hashOf(existing);
+        Path targetLocation = locationOf(contentHash);
+        if (!Files.exists(targetLocation)) {
+            Files.createDirectories(targetLocation.getParent());
+            try {
+                Files.createLink(targetLocation, existing);
+            } catch (FileAlreadyExistsException ex) {
+                // Placed concurrently
+            } catch (UnsupportedOperationException | IOException ex) {
+                Path temp = Files.createTempFile(this.fileStorageLocation, "upload-", ".tmp");
+                try {
+                    Files.copy(existing, temp, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(temp, targetLocation, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException alreadyPlaced) {
+                    // Placed concurrently
+                } finally {
+                    deleteQuietly(temp);
+                }
+            }
+        }
+        // A link keeps the old file's timestamp; the sweep must not take it for an old orphan
+        // before the row pointing to it commits.
+        Files.setLastModifiedTime(targetLocation, FileTime.from(Instant.now()));
+        return new StoredFile(targetLocation.toString(), contentHash, Files.size(targetLocation));
+    }
 
-            // Return the absolute path as a string
-            return targetLocation.toString();
+    // Refreshes the timestamp of a file that is about to lose its last reference, so the sweep
+    // leaves it for a full grace period to downloads that already read its path.
+    public void markReleased(Path path) {
+        try {
+            touch(path);
         } catch (IOException ex) {
-            throw new RuntimeException("Could not store file " + uniqueFileName + ". Please try again!", ex);
+            log.warn("Could not touch released file {}", path, ex);
         }
     }
 
-    public Resource loadFileAsResource(String filePath) {
+    private static String hashOf(Path path) throws IOException {
+        MessageDigest digest;
         try {
-            Path filePathPath = Paths.get(filePath);
-            Resource resource = new UrlResource(filePathPath.toUri());
-            if (resource.exists() || resource.isReadable()) {
-                return resource;
-            } else {
-                throw new RuntimeException("Could not read file: " + filePath);
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // A stored file is released when its last Document row is gone, e.g. after the student is
+    // deleted. Files left in the upload root from before the sharded layout go once no row points
+    // at their path, and leftover temporary files from interrupted uploads are cleared too.
+    @Scheduled(cron = "${file.orphan-sweep-cron:0 0 4 * * *}")
+    public void deleteOrphanedFiles() {
+        Instant cutoff = Instant.now().minus(ORPHAN_GRACE);
+        Set<String> rootReferences = null;
+        int deleted = 0;
+        try (Stream<Path> walk = Files.walk(this.fileStorageLocation, 3)) {
+            for (Path path : walk.filter(Files::isRegularFile).toList()) {
+                String name = path.getFileName().toString();
+                boolean inRoot = path.getParent().equals(this.fileStorageLocation);
+                if (!inRoot && name.endsWith(SWEEP_SUFFIX)
+                        && CONTENT_HASH.matcher(name.substring(0, name.length() - SWEEP_SUFFIX.length())).matches()) {
+                    // Left behind by an interrupted sweep
+                    restore(path);
+                    continue;
+                }
+                if (Files.getLastModifiedTime(path).toInstant().isAfter(cutoff)) {
+                    continue;
+                }
+                if (inRoot && name.startsWith("upload-") && name.endsWith(".tmp")) {
+                    Files.deleteIfExists(path);
+                    deleted++;
+                } else if (inRoot && (CONTENT_HASH.matcher(name).matches() || LEGACY_NAME.matcher(name).matches())) {
+                    if (rootReferences == null) {
+                        rootReferences = new HashSet<>(documentRepository.findAllFilePaths());
+                    }
+                    if (!rootReferences.contains(path.toString())) {
+                        Files.deleteIfExists(path);
+                        deleted++;
+                    }
+                } else if (CONTENT_HASH.matcher(name).matches()
+                        && documentRepository.countByContentHash(name) == 0 && deleteIfOrphaned(path, cutoff)) {
+                    deleted++;
+                }
             }
-        } catch (MalformedURLException ex) {
-            throw new RuntimeException("Could not read file: " + filePath, ex);
+        } catch (IOException ex) {
+            log.warn("Orphaned file sweep failed", ex);
+        }
+        log.info("Orphaned file sweep removed {} files", deleted);
+    }
+
+    // An upload of the same content may reuse the file between the count and the delete. Moving
+    // it aside first makes any later upload store its own copy, and one that got in before the
+    // move has touched the file, which the second check sees.
+    private boolean deleteIfOrphaned(Path path, Instant cutoff) throws IOException {
+        Path aside = path.resolveSibling(path.getFileName() + SWEEP_SUFFIX);
+        try {
+            Files.move(path, aside, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+        if (documentRepository.countByContentHash(path.getFileName().toString()) == 0
+                && !Files.getLastModifiedTime(aside).toInstant().isAfter(cutoff)) {
+            Files.delete(aside);
+            return true;
         }
+        restore(aside);
+        return false;
     }
+
+    private static void restore(Path aside) throws IOException {
+        String name = aside.getFileName().toString();
+        Path original = aside.resolveSibling(name.substring(0, name.length() - SWEEP_SUFFIX.length()));
+        try {
+            Files.move(aside, original, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException ex) {
+            // An upload stored the same content again meanwhile
+            Files.delete(aside);
+        }
+    }
+
+    private static boolean touch(Path path) throws IOException {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("Could not delete temporary upload {}", path, ex);
+        }
+    }
+
+    public record StoredFile(String path, String contentHash, long size) {}
 }
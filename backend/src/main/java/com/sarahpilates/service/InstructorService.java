@@ -3,24 +3,25 @@ package com.sarahpilates.service;
 import com.sarahpilates.domain.instructor.Instructor;
 import com.sarahpilates.dto.instructor.InstructorRequestDTO;
 import com.sarahpilates.dto.instructor.InstructorResponseDTO;
+import com.sarahpilates.event.InstructorChangedEvent;
 import com.sarahpilates.mapper.InstructorMapper;
 import com.sarahpilates.repository.InstructorRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class InstructorService {
 
     private final InstructorRepository instructorRepository;
     private final InstructorMapper instructorMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public InstructorResponseDTO createInstructor(InstructorRequestDTO instructorDTO) {
@@ -36,6 +37,7 @@ public class InstructorService {
             instructor.getWorkingHours().forEach(wh -> wh.setInstructor(instructor));
         }
         Instructor savedInstructor = instructorRepository.save(instructor);
+        eventPublisher.publishEvent(new InstructorChangedEvent(savedInstructor.getId()));
         return instructorMapper.toResponseDTO(savedInstructor);
     }
 
@@ -77,14 +79,14 @@ public class InstructorService {
         if (dto.workingHours() != null) {
             // Clear old collection and add new ones
             existingInstructor.getWorkingHours().clear();
-            dto.workingHours().forEach(whDto -> {
-                var wh = instructorMapper.toWorkingHoursList(List.of(whDto)).get(0);
+            instructorMapper.toWorkingHoursList(dto.workingHours()).forEach(wh -> {
                 wh.setInstructor(existingInstructor);
                 existingInstructor.getWorkingHours().add(wh);
             });
         }
 
         Instructor updatedInstructor = instructorRepository.save(existingInstructor);
+        eventPublisher.publishEvent(new InstructorChangedEvent(id));
         return instructorMapper.toResponseDTO(updatedInstructor);
     }
 
@@ -94,5 +96,6 @@ public class InstructorService {
             throw new EntityNotFoundException("Instructor not found with id: " + id);
         }
         instructorRepository.deleteById(id);
+        eventPublisher.publishEvent(new InstructorChangedEvent(id));
     }
 }
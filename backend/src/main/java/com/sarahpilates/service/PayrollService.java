@@ -0,0 +1,136 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.enums.PayrollRunStatus;
+import com.sarahpilates.domain.enums.ScheduleStatus;
+import com.sarahpilates.domain.payroll.PayrollLine;
+import com.sarahpilates.domain.payroll.PayrollRun;
+import com.sarahpilates.dto.payroll.PayrollRunRequestDTO;
+import com.sarahpilates.dto.payroll.PayrollRunResponseDTO;
+import com.sarahpilates.dto.payroll.PayrollSessionsRow;
+import com.sarahpilates.mapper.PayrollMapper;
+import com.sarahpilates.repository.PayrollRunRepository;
+import com.sarahpilates.repository.ScheduleRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class PayrollService {
+
+    private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
+
+    private final PayrollRunRepository payrollRunRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final PayrollMapper payrollMapper;
+
+    // Returns the closed run of the period untouched, otherwise (re)computes the open one from the
+    // completed schedules. The whole computation is a single grouped query, one row per instructor.
+    // Periods may not overlap, so no session is ever paid by two runs; runs are computed one at a
+    // time so a concurrent run cannot slip past the overlap check.
+    @Transactional
+    public PayrollRunResponseDTO run(PayrollRunRequestDTO dto) {
+        if (dto.periodEnd().isBefore(dto.periodStart())) {
+            throw new IllegalArgumentException("periodEnd must not be before periodStart");
+        }
+        payrollRunRepository.lockRuns();
+        if (payrollRunRepository.existsOverlapping(dto.periodStart(), dto.periodEnd())) {
+            throw new IllegalArgumentException("Payroll period overlaps an existing run");
+        }
+        PayrollRun run = payrollRunRepository.findByPeriodStartAndPeriodEnd(dto.periodStart(), dto.periodEnd())
+                .orElseGet(() -> {
+                    PayrollRun created = new PayrollRun();
+                    created.setPeriodStart(dto.periodStart());
+                    created.setPeriodEnd(dto.periodEnd());
+                    created.setStatus(PayrollRunStatus.ABERTA);
+                    return created;
+                });
+        if (run.getStatus() == PayrollRunStatus.FECHADA) {
+            return payrollMapper.toResponseDTO(run);
+        }
+
+        List<PayrollSessionsRow> rows = scheduleRepository.sumSessionsByInstructor(
+                dto.periodStart(), dto.periodEnd(), ScheduleStatus.CONCLUIDO);
+        run.getLines().clear();
+        BigDecimal total = BigDecimal.ZERO;
+        for (PayrollSessionsRow row : rows) {
+            PayrollLine line = new PayrollLine();
+            line.setRun(run);
+            line.setInstructorId(row.instructorId());
+            line.setInstructorName(row.instructorName());
+            line.setSessions(row.sessions());
+            line.setMinutes(row.minutes());
+            line.setHourlyRate(row.hourlyRate());
+            line.setAmount(amount(row.hourlyRate(), row.minutes()));
+            run.getLines().add(line);
+            total = total.add(line.getAmount());
+        }
+        run.setTotalAmount(total);
+        run.setComputedAt(LocalDateTime.now());
+        return payrollMapper.toResponseDTO(payrollRunRepository.saveAndFlush(run));
+    }
+
+    @Transactional(readOnly = true)
+    public PayrollRunResponseDTO findRunById(Long id) {
+        return payrollMapper.toResponseDTO(loadRun(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PayrollRunResponseDTO> findAllRuns() {
+        return payrollRunRepository.findAllByOrderByPeriodStartDesc().stream()
+                .map(payrollMapper::toResponseDTO)
+                .toList();
+    }
+
+    @Transactional
+    public PayrollRunResponseDTO closeRun(Long id) {
+        PayrollRun run = loadRun(id);
+        if (run.getStatus() == PayrollRunStatus.FECHADA) {
+            throw new IllegalArgumentException("Payroll run is already closed");
+        }
+        run.setStatus(PayrollRunStatus.FECHADA);
+        run.setClosedAt(LocalDateTime.now());
+        return payrollMapper.toResponseDTO(run);
+    }
+
+    @Transactional(readOnly = true)
+    public void writeCsv(Long id, OutputStream out) {
+        PayrollRun run = loadRun(id);
+        try {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write("instructor_id,instructor_name,sessions,minutes,hourly_rate,amount\n");
+            for (PayrollLine line : run.getLines()) {
+                writer.write(CsvFormat.row(line.getInstructorId(), line.getInstructorName(), line.getSessions(),
+                        line.getMinutes(), line.getHourlyRate(), line.getAmount()));
+            }
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private PayrollRun loadRun(Long id) {
+        return payrollRunRepository.findWithLinesById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Payroll run not found"));
+    }
+
+    private static BigDecimal amount(BigDecimal hourlyRate, long minutes) {
+        if (hourlyRate == null) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return hourlyRate.multiply(BigDecimal.valueOf(minutes))
+                .divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,130 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.enums.ScheduleStatus;
+import com.sarahpilates.domain.instructor.WorkingHoursSlot;
+import com.sarahpilates.dto.report.BookedMinutesRow;
+import com.sarahpilates.dto.report.InstructorUtilizationDTO;
+import com.sarahpilates.dto.report.UtilizationPeriod;
+import com.sarahpilates.dto.schedule.InstructorInfoDTO;
+import com.sarahpilates.repository.InstructorRepository;
+import com.sarahpilates.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final ScheduleRepository scheduleRepository;
+    private final InstructorRepository instructorRepository;
+
+    // Booked minutes come pre-aggregated per instructor and day from the database; available
+    // minutes come from expanding each instructor's weekly working hours over the range, which
+    // only needs the minutes per weekday. Nothing is loaded as an entity.
+    @Transactional(readOnly = true)
+    public List<InstructorUtilizationDTO> instructorUtilization(LocalDate startDate, LocalDate endDate,
+                                                                UtilizationPeriod period, Long instructorId) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("The report range is limited to " + MAX_RANGE_DAYS + " days");
+        }
+
+        Map<Long, NavigableMap<LocalDate, long[]>> buckets = new HashMap<>();
+
+        Map<Long, Map<DayOfWeek, BitSet>> weekly = new HashMap<>();
+        for (WorkingHoursSlot slot : instructorRepository.findAllWorkingHoursSlots()) {
+            if (instructorId != null && !instructorId.equals(slot.instructorId())) {
+                continue;
+            }
+            int from = slot.startTime().toSecondOfDay() / 60;
+            int to = slot.endTime().toSecondOfDay() / 60;
+            if (to > from) {
+                // Union per weekday, so overlapping rows are not counted twice
+                weekly.computeIfAbsent(slot.instructorId(), id -> new HashMap<>())
+                        .computeIfAbsent(slot.dayOfWeek(), day -> new BitSet(MINUTES_PER_DAY))
+                        .set(from, to);
+            }
+        }
+        weekly.forEach((id, days) -> {
+            Map<DayOfWeek, Integer> minutesByDay = new HashMap<>();
+            days.forEach((day, minutes) -> minutesByDay.put(day, minutes.cardinality()));
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                int minutes = minutesByDay.getOrDefault(date.getDayOfWeek(), 0);
+                if (minutes > 0) {
+                    bucketFor(buckets, id, periodStart(date, period))[1] += minutes;
+                }
+            }
+        });
+
+        for (BookedMinutesRow row : scheduleRepository.sumBookedMinutesByInstructorAndDate(startDate, endDate, ScheduleStatus.CANCELADO)) {
+            if (instructorId == null || instructorId.equals(row.instructorId())) {
+                bucketFor(buckets, row.instructorId(), periodStart(row.date(), period))[0] += row.minutes();
+            }
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        instructorRepository.findAllInfo().forEach(info -> names.put(info.id(), info.name()));
+
+        List<InstructorUtilizationDTO> report = new ArrayList<>();
+        buckets.forEach((id, periods) -> periods.forEach((start, minutes) -> {
+            LocalDate periodStart = start.isBefore(startDate) ? startDate : start;
+            LocalDate naturalEnd = periodEnd(start, period);
+            LocalDate periodEnd = naturalEnd.isAfter(endDate) ? endDate : naturalEnd;
+            report.add(new InstructorUtilizationDTO(id, names.get(id), periodStart, periodEnd,
+                    minutes[0], minutes[1], percentage(minutes[0], minutes[1])));
+        }));
+        report.sort(Comparator.comparing(InstructorUtilizationDTO::instructorName, Comparator.nullsLast(String::compareTo))
+                .thenComparing(InstructorUtilizationDTO::instructorId)
+                .thenComparing(InstructorUtilizationDTO::periodStart));
+        return report;
+    }
+
+    // [booked, available] minutes of one instructor in one period
+    private static long[] bucketFor(Map<Long, NavigableMap<LocalDate, long[]>> buckets, Long instructorId, LocalDate periodStart) {
+        return buckets.computeIfAbsent(instructorId, id -> new TreeMap<>())
+                .computeIfAbsent(periodStart, start -> new long[2]);
+    }
+
+    private static LocalDate periodStart(LocalDate date, UtilizationPeriod period) {
+        return switch (period) {
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate periodEnd(LocalDate periodStart, UtilizationPeriod period) {
+        return switch (period) {
+            case WEEK -> periodStart.plusDays(6);
+            case MONTH -> periodStart.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+
+    private static BigDecimal percentage(long booked, long available) {
+        if (available == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(booked * 100)
+                .divide(BigDecimal.valueOf(available), 1, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,87 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+import com.sarahpilates.event.ScheduleChangedEvent;
+import com.sarahpilates.repository.DailyRevenueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Keeps daily_revenue in step with schedules, so revenue figures are sums over a handful of
+// rows. A class counts once it has a price and is not cancelled: paid classes towards revenue,
+// unpaid ones towards the pending amount.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevenueService {
+
+    // Reconciliation rebuilds everything from this many months back; older classes are not
+    // expected to change.
+    private static final int RECONCILE_MONTHS = 13;
+
+    private final DailyRevenueRepository dailyRevenueRepository;
+
+    @Transactional(readOnly = true)
+    public BigDecimal paidBetween(LocalDate startDate, LocalDate endDate) {
+        return dailyRevenueRepository.sumPaidBetween(startDate, endDate);
+    }
+
+    // Runs inside the schedule write, right before it commits, so the rollup can never drift from
+    // a committed change and the day's row stays locked for as short as possible.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        Map<LocalDate, Delta> deltas = new TreeMap<>();
+        accumulate(deltas, event.before(), -1);
+        accumulate(deltas, event.after(), 1);
+        deltas.forEach((date, delta) -> {
+            if (!delta.isZero()) {
+                dailyRevenueRepository.addDelta(date, delta.paidAmount(), delta.paidClasses(), delta.pendingAmount());
+            }
+        });
+    }
+
+    @Scheduled(cron = "${revenue.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        LocalDate fromDate = LocalDate.now().minusMonths(RECONCILE_MONTHS).withDayOfMonth(1);
+        dailyRevenueRepository.deleteFrom(fromDate);
+        int days = dailyRevenueRepository.rebuildFrom(fromDate);
+        log.info("Revenue rollup reconciled from {} ({} days)", fromDate, days);
+    }
+
+    private static void accumulate(Map<LocalDate, Delta> deltas, ScheduleSnapshot schedule, int sign) {
+        if (schedule == null || !schedule.status().occupiesSlot() || schedule.price() == null) {
+            return;
+        }
+        BigDecimal amount = sign < 0 ? schedule.price().negate() : schedule.price();
+        Delta delta = switch (schedule.paymentStatus()) {
+            case PAGO -> new Delta(amount, sign, BigDecimal.ZERO);
+            case PENDENTE -> new Delta(BigDecimal.ZERO, 0, amount);
+            case ISENTO -> null;
+        };
+        if (delta != null) {
+            deltas.merge(schedule.date(), delta, Delta::plus);
+        }
+    }
+
+    private record Delta(BigDecimal paidAmount, int paidClasses, BigDecimal pendingAmount) {
+
+        Delta plus(Delta other) {
+            return new Delta(paidAmount.add(other.paidAmount), paidClasses + other.paidClasses,
+                    pendingAmount.add(other.pendingAmount));
+        }
+
+        boolean isZero() {
+            return paidAmount.signum() == 0 && paidClasses == 0 && pendingAmount.signum() == 0;
+        }
+    }
+}
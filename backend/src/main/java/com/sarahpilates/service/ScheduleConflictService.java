@@ -0,0 +1,284 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.enums.ScheduleStatus;
+import com.sarahpilates.domain.schedule.ScheduleInterval;
+import com.sarahpilates.exception.ScheduleConflictException;
+import com.sarahpilates.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Keeps an interval index per instructor and per room covering bookings from today onwards.
+// Indexes are loaded lazily from the database the first time a key is touched and are then
+// maintained by ScheduleService. Every key maps onto one of a fixed set of lock stripes, so
+// bookings for different instructors and rooms never wait on each other.
+//
+// The index lives in this JVM: running several backend instances side by side would need a
+// database-level guard instead.
+@Service
+@RequiredArgsConstructor
+public class ScheduleConflictService {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ScheduleRepository scheduleRepository;
+
+    private final ReentrantLock[] stripes = createStripes();
+    private final ConcurrentMap<String, IntervalIndex> indexes = new ConcurrentHashMap<>();
+
+    public void reserve(ScheduleInterval interval) {
+        apply(List.of(), List.of(interval));
+    }
+
+    public void reserveAll(List<ScheduleInterval> intervals) {
+        apply(List.of(), intervals);
+    }
+
+    // Either side may be null when the schedule did not (or no longer does) occupy its slot.
+    public void move(ScheduleInterval previous, ScheduleInterval next) {
+        apply(previous == null ? List.of() : List.of(previous), next == null ? List.of() : List.of(next));
+    }
+
+    public void release(ScheduleInterval interval) {
+        apply(List.of(interval), List.of());
+    }
+
+    // Active bookings of an instructor on a given day, as currently seen by the index.
+    public List<ScheduleInterval> bookingsFor(Long instructorId, LocalDate date) {
+        String key = instructorKey(instructorId);
+        ReentrantLock lock = stripeFor(key);
+        lock.lock();
+        try {
+            return indexFor(key).on(date);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Applies the change to the indexes and rolls it back automatically if the surrounding
+    // transaction does not commit. Throws without touching the indexes when any added interval
+    // overlaps a booking that is not part of the same group class.
+    private void apply(Collection<ScheduleInterval> removed, Collection<ScheduleInterval> added) {
+        LocalDate today = LocalDate.now();
+        List<ScheduleInterval> toRemove = removed.stream().filter(i -> !i.date().isBefore(today)).toList();
+        List<ScheduleInterval> toAdd = added.stream().filter(i -> !i.date().isBefore(today)).toList();
+        if (toRemove.isEmpty() && toAdd.isEmpty()) {
+            return;
+        }
+
+        List<ReentrantLock> locks = lockAll(keysOf(toRemove, toAdd));
+        try {
+            Map<Long, ScheduleInterval> removedById = new HashMap<>();
+            toRemove.forEach(interval -> {
+                removedById.put(interval.id(), interval);
+                remove(interval);
+            });
+
+            Set<Long> conflicts = new TreeSet<>();
+            List<ScheduleInterval> applied = new ArrayList<>();
+            for (ScheduleInterval interval : toAdd) {
+                // Re-saving a booking without changing where or when it happens must not trip over
+                // overlaps that predate the conflict checks.
+                boolean unchanged = interval.equals(removedById.get(interval.id()));
+                List<Long> found = unchanged ? List.of() : findConflicts(interval);
+                if (found.isEmpty()) {
+                    add(interval);
+                    applied.add(interval);
+                } else {
+                    conflicts.addAll(found);
+                }
+            }
+
+            if (!conflicts.isEmpty()) {
+                applied.forEach(this::remove);
+                toRemove.forEach(this::add);
+                throw new ScheduleConflictException(new ArrayList<>(conflicts));
+            }
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        undo(toRemove, toAdd);
+                    }
+                }
+            });
+        }
+    }
+
+    private void undo(List<ScheduleInterval> removed, List<ScheduleInterval> added) {
+        List<ReentrantLock> locks = lockAll(keysOf(removed, added));
+        try {
+            added.forEach(this::remove);
+            removed.forEach(this::add);
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    private List<Long> findConflicts(ScheduleInterval candidate) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String key : keysOf(candidate)) {
+            indexFor(key).overlapping(candidate).stream()
+                    .filter(existing -> !existing.id().equals(candidate.id()))
+                    .filter(existing -> !existing.sameSlotAs(candidate))
+                    .forEach(existing -> ids.add(existing.id()));
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private void add(ScheduleInterval interval) {
+        keysOf(interval).forEach(key -> indexFor(key).add(interval));
+    }
+
+    private void remove(ScheduleInterval interval) {
+        keysOf(interval).forEach(key -> indexFor(key).remove(interval.id()));
+    }
+
+    // Callers must hold the stripe lock of the key.
+    private IntervalIndex indexFor(String key) {
+        IntervalIndex index = indexes.get(key);
+        if (index == null) {
+            index = new IntervalIndex();
+            load(key).forEach(index::add);
+            indexes.put(key, index);
+        }
+        index.evictBefore(LocalDate.now());
+        return index;
+    }
+
+    private List<ScheduleInterval> load(String key) {
+        LocalDate today = LocalDate.now();
+        String value = key.substring(key.indexOf(':') + 1);
+        if (key.startsWith("instructor:")) {
+            return scheduleRepository.findIntervalsByInstructor(Long.valueOf(value), today, ScheduleStatus.CANCELADO);
+        }
+        return scheduleRepository.findIntervalsByRoom(value, today, ScheduleStatus.CANCELADO);
+    }
+
+    private static Set<String> keysOf(ScheduleInterval interval) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(instructorKey(interval.instructorId()));
+        if (interval.roomKey() != null) {
+            keys.add("room:" + interval.roomKey());
+        }
+        return keys;
+    }
+
+    private static Set<String> keysOf(Collection<ScheduleInterval> first, Collection<ScheduleInterval> second) {
+        Set<String> keys = new LinkedHashSet<>();
+        first.forEach(interval -> keys.addAll(keysOf(interval)));
+        second.forEach(interval -> keys.addAll(keysOf(interval)));
+        return keys;
+    }
+
+    private static String instructorKey(Long instructorId) {
+        return "instructor:" + instructorId;
+    }
+
+    // Stripes are always taken in ascending order so two writers can never deadlock.
+    private List<ReentrantLock> lockAll(Set<String> keys) {
+        Set<Integer> stripeIndexes = new TreeSet<>();
+        keys.forEach(key -> stripeIndexes.add(stripeIndex(key)));
+        List<ReentrantLock> locks = new ArrayList<>();
+        for (Integer i : stripeIndexes) {
+            stripes[i].lock();
+            locks.add(stripes[i]);
+        }
+        return locks;
+    }
+
+    private ReentrantLock stripeFor(String key) {
+        return stripes[stripeIndex(key)];
+    }
+
+    private static int stripeIndex(String key) {
+        return Math.floorMod(key.hashCode(), LOCK_STRIPES);
+    }
+
+    private static ReentrantLock[] createStripes() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    // Intervals ordered by start. Tracking the longest interval seen bounds how far back an
+    // overlapping interval can start, so an overlap query is a single range scan: O(log n + k).
+    private static final class IntervalIndex {
+
+        private final NavigableMap<LocalDateTime, Map<Long, ScheduleInterval>> byStart = new TreeMap<>();
+        private final Map<Long, ScheduleInterval> byId = new HashMap<>();
+        private Duration longest = Duration.ZERO;
+
+        void add(ScheduleInterval interval) {
+            remove(interval.id());
+            byStart.computeIfAbsent(interval.start(), start -> new LinkedHashMap<>()).put(interval.id(), interval);
+            byId.put(interval.id(), interval);
+            Duration length = Duration.between(interval.start(), interval.end());
+            if (length.compareTo(longest) > 0) {
+                longest = length;
+            }
+        }
+
+        void remove(Long id) {
+            ScheduleInterval existing = byId.remove(id);
+            if (existing == null) {
+                return;
+            }
+            Map<Long, ScheduleInterval> bucket = byStart.get(existing.start());
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                byStart.remove(existing.start());
+            }
+        }
+
+        List<ScheduleInterval> overlapping(ScheduleInterval candidate) {
+            List<ScheduleInterval> result = new ArrayList<>();
+            byStart.subMap(candidate.start().minus(longest), false, candidate.end(), false)
+                    .values()
+                    .forEach(bucket -> bucket.values().stream()
+                            .filter(candidate::overlaps)
+                            .forEach(result::add));
+            return result;
+        }
+
+        List<ScheduleInterval> on(LocalDate date) {
+            List<ScheduleInterval> result = new ArrayList<>();
+            byStart.subMap(date.atStartOfDay(), true, date.plusDays(1).atStartOfDay(), false)
+                    .values()
+                    .forEach(bucket -> result.addAll(bucket.values()));
+            return result;
+        }
+
+        void evictBefore(LocalDate date) {
+            NavigableMap<LocalDateTime, Map<Long, ScheduleInterval>> past = byStart.headMap(date.atStartOfDay(), false);
+            past.values().forEach(bucket -> bucket.keySet().forEach(byId::remove));
+            past.clear();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sarahpilates.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sarahpilates.dto.schedule.ScheduleExportFormat;
+import com.sarahpilates.dto.schedule.ScheduleRowDTO;
+import com.sarahpilates.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Writes the schedule history straight from a streaming result set to the response, one row at a
+// time, so memory use does not depend on how many rows are exported.
+@Service
+@RequiredArgsConstructor
+public class ScheduleExportService {
+
+    private static final LocalDate EXPORT_FLOOR = LocalDate.of(1970, 1, 1);
+    private static final LocalDate EXPORT_CEILING = LocalDate.of(9999, 12, 31);
+    private static final int FLUSH_EVERY = 1000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(ScheduleExportFormat format, LocalDate startDate, LocalDate endDate, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<ScheduleRowDTO> rows = scheduleRepository.streamRowsByDateBetween(
+                startDate != null ? startDate : EXPORT_FLOOR,
+                endDate != null ? endDate : EXPORT_CEILING)) {
+            if (format == ScheduleExportFormat.CSV) {
+                writer.write("id,date,start_time,end_time,student_id,student_name,instructor_id,instructor_name,"
+                        + "class_type_id,class_type_name,status,payment_status,price,room,notes\n");
+            }
+            Iterator<ScheduleRowDTO> iterator = rows.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                ScheduleRowDTO row = iterator.next();
+                writer.write(format == ScheduleExportFormat.CSV ? csv(row) : objectMapper.writeValueAsString(row) + "\n");
+                if (++written % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String csv(ScheduleRowDTO row) {
+        return CsvFormat.row(row.id(), row.date(), row.startTime(), row.endTime(),
+                row.studentId(), row.studentName(), row.instructorId(), row.instructorName(),
+                row.classTypeId(), row.classTypeName(), row.status(), row.paymentStatus(),
+                row.price(), row.room(), row.notes());
+    }
+}
@@ -3,9 +3,18 @@ package com.sarahpilates.service;
 import com.sarahpilates.domain.classtype.ClassType;
 import com.sarahpilates.domain.instructor.Instructor;
 import com.sarahpilates.domain.schedule.Schedule;
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+import com.sarahpilates.domain.schedule.WeeklyRecurrence;
 import com.sarahpilates.domain.student.Student;
+import com.sarahpilates.dto.page.KeysetCursor;
+import com.sarahpilates.dto.page.KeysetPageDTO;
+import com.sarahpilates.dto.schedule.ScheduleBulkResultDTO;
+import com.sarahpilates.dto.schedule.ScheduleBulkStatusRequestDTO;
 import com.sarahpilates.dto.schedule.ScheduleRequestDTO;
 import com.sarahpilates.dto.schedule.ScheduleResponseDTO;
+import com.sarahpilates.dto.schedule.ScheduleRowDTO;
+import com.sarahpilates.dto.schedule.ScheduleSeriesRequestDTO;
+import com.sarahpilates.event.ScheduleChangedEvent;
 import com.sarahpilates.mapper.ScheduleMapper;
 import com.sarahpilates.repository.ClassTypeRepository;
 import com.sarahpilates.repository.InstructorRepository;
@@ -13,26 +22,41 @@ import com.sarahpilates.repository.ScheduleRepository;
 import com.sarahpilates.repository.StudentRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ScheduleService {
 
+    private static final LocalDate SCROLL_FLOOR = LocalDate.of(1970, 1, 1);
+    private static final LocalDate SCROLL_CEILING = LocalDate.of(9999, 12, 31);
+    private static final int MAX_BATCH_STUDENTS = 200;
+
     private final ScheduleRepository scheduleRepository;
     private final StudentRepository studentRepository;
     private final InstructorRepository instructorRepository;
     private final ClassTypeRepository classTypeRepository;
     private final ScheduleMapper scheduleMapper;
+    private final ScheduleConflictService scheduleConflictService;
+    private final ClassCapacityService classCapacityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ScheduleResponseDTO createSchedule(ScheduleRequestDTO dto) {
@@ -49,9 +73,64 @@ public class ScheduleService {
         schedule.setClassType(classType);
 
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        ScheduleSnapshot after = ScheduleSnapshot.of(savedSchedule);
+        if (after.status().occupiesSlot()) {
+            classCapacityService.claim(after, classType.getCapacity());
+            scheduleConflictService.reserve(after.toInterval());
+        }
+        eventPublisher.publishEvent(new ScheduleChangedEvent(null, after));
         return scheduleMapper.toResponseDTO(savedSchedule);
     }
 
+    // Expands the weekly pattern server-side, resolves the related entities once and checks every
+    // occurrence for conflicts before anything is written. Ids come from the pooled generator, so
+    // the inserts go out in JDBC batches when the transaction flushes.
+    @Transactional
+    public List<ScheduleResponseDTO> createSeries(ScheduleSeriesRequestDTO dto) {
+        WeeklyRecurrence recurrence = new WeeklyRecurrence(
+                dto.daysOfWeek(),
+                dto.interval() != null ? dto.interval() : 1,
+                dto.startDate(),
+                dto.endDate(),
+                dto.count()
+        );
+        List<LocalDate> dates = recurrence.expand();
+
+        Student student = studentRepository.findById(dto.studentId())
+                .orElseThrow(() -> new EntityNotFoundException("Student not found"));
+        Instructor instructor = instructorRepository.findById(dto.instructorId())
+                .orElseThrow(() -> new EntityNotFoundException("Instructor not found"));
+        ClassType classType = classTypeRepository.findById(dto.classTypeId())
+                .orElseThrow(() -> new EntityNotFoundException("ClassType not found"));
+
+        List<Schedule> schedules = dates.stream().map(date -> {
+            Schedule schedule = new Schedule();
+            schedule.setStudent(student);
+            schedule.setInstructor(instructor);
+            schedule.setClassType(classType);
+            schedule.setDate(date);
+            schedule.setStartTime(dto.startTime());
+            schedule.setEndTime(dto.endTime());
+            schedule.setStatus(dto.status());
+            schedule.setPaymentStatus(dto.paymentStatus());
+            schedule.setPrice(dto.price());
+            schedule.setRoom(dto.room());
+            schedule.setNotes(dto.notes());
+            return schedule;
+        }).toList();
+
+        List<Schedule> savedSchedules = scheduleRepository.saveAll(schedules);
+        List<ScheduleSnapshot> snapshots = savedSchedules.stream().map(ScheduleSnapshot::of).toList();
+        if (dto.status().occupiesSlot()) {
+            snapshots.forEach(after -> classCapacityService.claim(after, classType.getCapacity()));
+            scheduleConflictService.reserveAll(snapshots.stream().map(ScheduleSnapshot::toInterval).toList());
+        }
+        snapshots.forEach(after -> eventPublisher.publishEvent(new ScheduleChangedEvent(null, after)));
+        return savedSchedules.stream()
+                .map(scheduleMapper::toResponseDTO)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public ScheduleResponseDTO findScheduleById(Long id) {
         return scheduleRepository.findById(id)
@@ -62,22 +141,33 @@ public class ScheduleService {
     @Transactional(readOnly = true)
     public Page<ScheduleResponseDTO> findAllSchedules(LocalDate startDate, LocalDate endDate, Pageable pageable) {
         if (startDate != null && endDate != null) {
-            // This is not optimal for large datasets as it fetches all, then paginates in memory.
-            // A custom repository method with Pageable would be better. For now, this works.
-            List<ScheduleResponseDTO> list = scheduleRepository.findByDateBetween(startDate, endDate).stream()
-                    .map(scheduleMapper::toResponseDTO)
-                    .collect(Collectors.toList());
-            
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), list.size());
-            return new PageImpl<>(list.subList(start, end), pageable, list.size());
-
+            return scheduleRepository.findRowsByDateBetween(startDate, endDate, pageable)
+                    .map(scheduleMapper::toResponseDTO);
         } else {
-            return scheduleRepository.findAll(pageable)
+            return scheduleRepository.findAllRows(pageable)
                     .map(scheduleMapper::toResponseDTO);
         }
     }
 
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<ScheduleResponseDTO> scrollSchedules(String cursor, LocalDate startDate, LocalDate endDate, Integer size) {
+        int pageSize = KeysetPageDTO.clampSize(size);
+        LocalDate date = startDate != null ? startDate : SCROLL_FLOOR;
+        LocalTime startTime = LocalTime.MIN;
+        Long id = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor, 3);
+            date = position.date(0);
+            startTime = position.time(1);
+            id = position.id(2);
+        }
+
+        List<ScheduleRowDTO> rows = scheduleRepository.findRowsAfter(date, startTime, id,
+                endDate != null ? endDate : SCROLL_CEILING, PageRequest.of(0, pageSize + 1));
+        return KeysetPageDTO.of(rows, pageSize, scheduleMapper::toResponseDTO,
+                row -> KeysetCursor.encode(row.date(), row.startTime(), row.id()));
+    }
+
     @Transactional(readOnly = true)
     public long countTodayClasses() {
         return scheduleRepository.countByDate(LocalDate.now());
@@ -85,8 +175,9 @@ public class ScheduleService {
 
     @Transactional
     public ScheduleResponseDTO updateSchedule(Long id, ScheduleRequestDTO dto) {
-        Schedule existingSchedule = scheduleRepository.findById(id)
+        Schedule existingSchedule = scheduleRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Schedule not found"));
+        ScheduleSnapshot before = ScheduleSnapshot.of(existingSchedule);
 
         // Fetch related entities if they are being updated
         Student student = studentRepository.findById(dto.studentId())
@@ -102,15 +193,87 @@ public class ScheduleService {
         existingSchedule.setClassType(classType);
 
         Schedule updatedSchedule = scheduleRepository.save(existingSchedule);
+        ScheduleSnapshot after = ScheduleSnapshot.of(updatedSchedule);
+        classCapacityService.move(before, after, classType.getCapacity());
+        scheduleConflictService.move(before.activeInterval(), after.activeInterval());
+        eventPublisher.publishEvent(new ScheduleChangedEvent(before, after));
         return scheduleMapper.toResponseDTO(updatedSchedule);
     }
 
+    // End-of-day attendance and payment marking: one locking read of the current state, one
+    // set-based UPDATE for every id that can take the change, and a result per requested id.
+    // The row locks keep concurrent cancels and deletes from changing a row between the two. Reactivating a
+    // cancelled schedule needs its seat and slot re-checked, so it has to go through updateSchedule.
+    @Transactional
+    public List<ScheduleBulkResultDTO> bulkUpdateStatus(ScheduleBulkStatusRequestDTO dto) {
+        if (dto.status() == null && dto.paymentStatus() == null) {
+            throw new IllegalArgumentException("status or paymentStatus is required");
+        }
+        Set<Long> ids = new LinkedHashSet<>(dto.ids());
+        Map<Long, ScheduleSnapshot> current = scheduleRepository.findAllByIdInForUpdate(ids).stream()
+                .map(ScheduleSnapshot::of)
+                .collect(Collectors.toMap(ScheduleSnapshot::id, Function.identity()));
+
+        List<ScheduleBulkResultDTO> results = new ArrayList<>();
+        List<ScheduleSnapshot> accepted = new ArrayList<>();
+        for (Long id : ids) {
+            ScheduleSnapshot before = current.get(id);
+            if (before == null) {
+                results.add(new ScheduleBulkResultDTO(id, ScheduleBulkResultDTO.Outcome.NOT_FOUND, "Schedule not found"));
+            } else if (dto.status() != null && !before.status().occupiesSlot() && dto.status().occupiesSlot()) {
+                results.add(new ScheduleBulkResultDTO(id, ScheduleBulkResultDTO.Outcome.REJECTED,
+                        "Cancelled schedules must be reactivated individually"));
+            } else {
+                accepted.add(before);
+                results.add(new ScheduleBulkResultDTO(id, ScheduleBulkResultDTO.Outcome.UPDATED, null));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return results;
+        }
+
+        scheduleRepository.updateStatuses(accepted.stream().map(ScheduleSnapshot::id).toList(), dto.status(), dto.paymentStatus());
+        for (ScheduleSnapshot before : accepted) {
+            ScheduleSnapshot after = before.withStatus(
+                    dto.status() != null ? dto.status() : before.status(),
+                    dto.paymentStatus() != null ? dto.paymentStatus() : before.paymentStatus());
+            if (before.status().occupiesSlot() && !after.status().occupiesSlot()) {
+                classCapacityService.release(before);
+                scheduleConflictService.release(before.toInterval());
+            }
+            eventPublisher.publishEvent(new ScheduleChangedEvent(before, after));
+        }
+        return results;
+    }
+
     @Transactional
     public void deleteSchedule(Long id) {
-        if (!scheduleRepository.existsById(id)) {
-            throw new EntityNotFoundException("Schedule not found");
+        Schedule schedule = scheduleRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Schedule not found"));
+        ScheduleSnapshot before = ScheduleSnapshot.of(schedule);
+        if (before.status().occupiesSlot()) {
+            classCapacityService.release(before);
+            scheduleConflictService.release(before.toInterval());
+        }
+        scheduleRepository.delete(schedule);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(before, null));
+    }
+
+    // Same rule as findNextClassByStudent for a whole page of students, in two queries.
+    @Transactional(readOnly = true)
+    public Map<Long, ScheduleResponseDTO> findNextClassByStudents(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+        if (studentIds.size() > MAX_BATCH_STUDENTS) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_STUDENTS + " student ids are allowed");
+        }
+        List<Long> ids = scheduleRepository.findNextScheduleIds(studentIds, LocalDate.now());
+        if (ids.isEmpty()) {
+            return Map.of();
         }
-        scheduleRepository.deleteById(id);
+        return scheduleRepository.findRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ScheduleRowDTO::studentId, scheduleMapper::toResponseDTO));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,146 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+import com.sarahpilates.dto.schedule.ScheduleChangeNotificationDTO;
+import com.sarahpilates.event.ScheduleChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Pushes committed schedule changes to server-sent event subscribers. An idle subscriber is just
+// an async request and a small queue: no thread is held between events. Publishing only enqueues;
+// each subscriber's queue is drained on a virtual thread, so one slow client never delays the
+// writer or the other clients. A client that lets its queue fill up is disconnected and is
+// expected to reconnect and reload.
+@Slf4j
+@Service
+public class ScheduleStreamService {
+
+    private static final long TIMEOUT_MS = Duration.ofMinutes(30).toMillis();
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SseEmitter subscribe(Long instructorId, LocalDate startDate, LocalDate endDate) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
+        Subscription subscription = new Subscription(emitter, instructorId, startDate, endDate);
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(ex -> subscriptions.remove(subscription));
+        // Commits the response headers so the client knows it is connected
+        enqueue(subscription, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        String name = event.before() == null ? "created" : event.after() == null ? "deleted" : "updated";
+        ScheduleChangeNotificationDTO payload = new ScheduleChangeNotificationDTO(event.scheduleId(), event.before(), event.after());
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(event.before()) || subscription.matches(event.after())) {
+                enqueue(subscription, SseEmitter.event().name(name).id(String.valueOf(event.scheduleId())).data(payload));
+            }
+        }
+    }
+
+    // Keeps proxies from closing idle connections and surfaces dead clients.
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        subscriptions.forEach(subscription -> enqueue(subscription, SseEmitter.event().comment("ping")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(subscription -> subscription.emitter().complete());
+        senders.shutdownNow();
+    }
+
+    private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        if (!subscription.queue().offer(event)) {
+            log.info("Closing schedule stream of a client that fell {} events behind", QUEUE_CAPACITY);
+            close(subscription);
+            return;
+        }
+        if (subscription.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscription.queue().poll()) != null) {
+                try {
+                    subscription.emitter().send(event);
+                } catch (IOException | IllegalStateException ex) {
+                    close(subscription);
+                    return;
+                }
+            }
+            subscription.draining().set(false);
+            // An event may have been queued after the last poll but before the flag was cleared
+            if (subscription.queue().isEmpty() || !subscription.draining().compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void close(Subscription subscription) {
+        if (subscriptions.remove(subscription)) {
+            subscription.queue().clear();
+            subscription.emitter().complete();
+        }
+    }
+
+    private record Subscription(
+        SseEmitter emitter,
+        Long instructorId,
+        LocalDate startDate,
+        LocalDate endDate,
+        BlockingQueue<SseEmitter.SseEventBuilder> queue,
+        AtomicBoolean draining
+    ) {
+
+        Subscription(SseEmitter emitter, Long instructorId, LocalDate startDate, LocalDate endDate) {
+            this(emitter, instructorId, startDate, endDate, new ArrayBlockingQueue<>(QUEUE_CAPACITY), new AtomicBoolean());
+        }
+
+        boolean matches(ScheduleSnapshot schedule) {
+            return schedule != null
+                    && (instructorId == null || instructorId.equals(schedule.instructorId()))
+                    && (startDate == null || !schedule.date().isBefore(startDate))
+                    && (endDate == null || !schedule.date().isAfter(endDate));
+        }
+
+        // Identity semantics: two subscriptions with the same filter are still different clients
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
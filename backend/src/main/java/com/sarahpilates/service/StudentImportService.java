@@ -0,0 +1,247 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.enums.StudentStatus;
+import com.sarahpilates.domain.student.Student;
+import com.sarahpilates.dto.student.StudentImportResultDTO;
+import com.sarahpilates.dto.student.StudentImportResultDTO.RowError;
+import com.sarahpilates.dto.student.StudentRequestDTO;
+import com.sarahpilates.event.StudentsImportedEvent;
+import com.sarahpilates.mapper.StudentMapper;
+import com.sarahpilates.repository.StudentRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Imports students from a spreadsheet export. The file is read one record at a time and handled
+// in chunks: rows of a chunk are converted and validated in parallel, checked against the set of
+// known emails loaded once up front, and the valid ones are saved in one transaction, which the
+// pooled student ids turn into JDBC batches. Bad rows are reported by line and skipped. A chunk
+// the database rejects, e.g. for an email taken by a concurrent insert, is saved again row by
+// row so only the offending rows fail.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final DateTimeFormatter BRAZILIAN_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final StudentRepository studentRepository;
+    private final StudentMapper studentMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StudentImportResultDTO importCsv(MultipartFile file) {
+        Set<String> knownEmails = new HashSet<>(studentRepository.findAllEmailsLowercase());
+        Report report = new Report();
+
+        try (Reader input = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            CsvRecordReader csv = new CsvRecordReader(input, ',');
+            List<String> header = csv.next();
+            if (header == null) {
+                throw new IllegalArgumentException("The file is empty");
+            }
+            // Spreadsheets saved with a Portuguese locale use semicolons
+            if (header.size() == 1 && header.get(0).contains(";")) {
+                header = List.of(header.get(0).split(";", -1));
+                csv.setDelimiter(';');
+            }
+            Map<String, Integer> columns = columns(header);
+            if (!columns.containsKey("name")) {
+                throw new IllegalArgumentException("The header must have a name column");
+            }
+
+            List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> values;
+            while ((values = csv.next()) != null) {
+                chunk.add(new Row(csv.recordLine(), values));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, columns, knownEmails, report);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, columns, knownEmails, report);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return report.toResult();
+    }
+
+    private void importChunk(List<Row> chunk, Map<String, Integer> columns, Set<String> knownEmails, Report report) {
+        // Conversion and bean validation do not share state, so they run in parallel.
+        List<Parsed> parsed = chunk.parallelStream()
+                .map(row -> parse(row, columns))
+                .toList();
+
+        List<Parsed> valid = new ArrayList<>();
+        for (Parsed row : parsed) {
+            report.totalRows++;
+            if (row.error() != null) {
+                report.fail(row.line(), row.error());
+                continue;
+            }
+            String email = row.dto().email();
+            if (email != null && !knownEmails.add(email.toLowerCase(Locale.ROOT))) {
+                report.fail(row.line(), "Email already in use: " + email);
+                continue;
+            }
+            valid.add(row);
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            report.imported += save(valid);
+        } catch (RuntimeException ex) {
+            log.warn("Student import chunk starting at line {} failed, saving its rows one by one", valid.get(0).line(), ex);
+            for (Parsed row : valid) {
+                try {
+                    report.imported += save(List.of(row));
+                } catch (RuntimeException rowEx) {
+                    log.debug("Student import line {} failed", row.line(), rowEx);
+                    report.fail(row.line(), saveError(row, rowEx));
+                    if (row.dto().email() != null) {
+                        knownEmails.remove(row.dto().email().toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
+    }
+
+    private int save(List<Parsed> rows) {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Student> saved = studentRepository.saveAllAndFlush(rows.stream()
+                    .map(row -> studentMapper.toEntity(row.dto()))
+                    .toList());
+            List<Long> savedIds = saved.stream().map(Student::getId).toList();
+            eventPublisher.publishEvent(new StudentsImportedEvent(savedIds));
+            return savedIds;
+        });
+        return ids.size();
+    }
+
+    private String saveError(Parsed row, RuntimeException ex) {
+        String email = row.dto().email();
+        if (ex instanceof DataIntegrityViolationException && email != null && studentRepository.existsByEmail(email)) {
+            return "Email already in use: " + email;
+        }
+        return "Could not be saved";
+    }
+
+    private Parsed parse(Row row, Map<String, Integer> columns) {
+        try {
+            String status = value(row, columns, "status");
+            StudentRequestDTO dto = new StudentRequestDTO(
+                    value(row, columns, "name"),
+                    value(row, columns, "email"),
+                    value(row, columns, "phone"),
+                    parseDate(value(row, columns, "birthdate")),
+                    value(row, columns, "sex"),
+                    value(row, columns, "address"),
+                    value(row, columns, "emergencycontact"),
+                    value(row, columns, "emergencyphone"),
+                    parseStatus(status),
+                    value(row, columns, "plan"),
+                    null
+            );
+            Set<ConstraintViolation<StudentRequestDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                return new Parsed(row.line(), null, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            }
+            return new Parsed(row.line(), dto, null);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            return new Parsed(row.line(), null, ex.getMessage());
+        }
+    }
+
+    // Header names are matched ignoring case, spaces and underscores: "Birth Date" is birthdate.
+    private static Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT), i);
+        }
+        return columns;
+    }
+
+    private static String value(Row row, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.values().size()) {
+            return null;
+        }
+        String value = row.values().get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // A blank status imports the student as active
+    private static StudentStatus parseStatus(String value) {
+        if (value == null) {
+            return StudentStatus.ATIVO;
+        }
+        try {
+            return StudentStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown status: " + value);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.contains("/") ? LocalDate.parse(value, BRAZILIAN_DATE) : LocalDate.parse(value);
+    }
+
+    private record Row(long line, List<String> values) {}
+
+    private record Parsed(long line, StudentRequestDTO dto, String error) {}
+
+    private static final class Report {
+
+        private long totalRows;
+        private long imported;
+        private long failed;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, message));
+            }
+        }
+
+        StudentImportResultDTO toResult() {
+            return new StudentImportResultDTO(totalRows, imported, failed, errors, failed > errors.size());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.dto.evaluation.EvolutionRecordResponseDTO;
+import com.sarahpilates.dto.evaluation.PhysicalEvaluationResponseDTO;
+import com.sarahpilates.dto.page.KeysetPageDTO;
+import com.sarahpilates.dto.schedule.ScheduleResponseDTO;
+import com.sarahpilates.dto.student.StudentOverviewDTO;
+import com.sarahpilates.dto.student.StudentResponseDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Loads the parts of a student profile concurrently, each through its own service call and so in
+// its own read-only transaction; the response takes as long as the slowest part. Parts run on
+// virtual threads, and a semaphore caps how many hold a database connection at once so a burst
+// of profile opens cannot drain the pool.
+@Service
+@RequiredArgsConstructor
+public class StudentOverviewService {
+
+    private static final int RECENT_EVALUATIONS = 5;
+    private static final int MAX_CONCURRENT_QUERIES = 8;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final StudentService studentService;
+    private final ScheduleService scheduleService;
+    private final EvaluationService evaluationService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore connections = new Semaphore(MAX_CONCURRENT_QUERIES);
+
+    public StudentOverviewDTO findOverview(Long studentId) {
+        CompletableFuture<StudentResponseDTO> student = submit(() -> studentService.findStudentById(studentId));
+        CompletableFuture<ScheduleResponseDTO> nextClass = submit(() -> scheduleService.findNextClassByStudent(studentId).orElse(null));
+        CompletableFuture<KeysetPageDTO<PhysicalEvaluationResponseDTO>> physical =
+                submit(() -> evaluationService.scrollPhysicalEvaluations(studentId, null, RECENT_EVALUATIONS));
+        CompletableFuture<KeysetPageDTO<EvolutionRecordResponseDTO>> evolution =
+                submit(() -> evaluationService.scrollEvolutionRecords(studentId, null, RECENT_EVALUATIONS));
+
+        try {
+            CompletableFuture.allOf(student, nextClass, physical, evolution).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return new StudentOverviewDTO(student.join(), nextClass.join(), physical.join(), evolution.join());
+        } catch (ExecutionException ex) {
+            // Surface the original exception, e.g. EntityNotFoundException for an unknown student
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new IllegalStateException("Student overview timed out", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the student overview", ex);
+        } finally {
+            student.cancel(true);
+            nextClass.cancel(true);
+            physical.cancel(true);
+            evolution.cancel(true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            connections.acquireUninterruptibly();
+            try {
+                return query.get();
+            } finally {
+                connections.release();
+            }
+        }, executor);
+    }
+}
@@ -0,0 +1,153 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.dto.student.StudentSummaryDTO;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+// Prefix index behind StudentSearchService. Every word of the name, the email and its parts, and
+// the phone digits are indexed as accent-free lowercase terms in a sorted map, so a prefix lookup
+// is a range scan. Not thread-safe: StudentSearchService guards it.
+final class StudentSearchIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}@.]+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+
+    private final NavigableMap<String, Set<Long>> terms = new TreeMap<>();
+    private final Map<Long, Indexed> students = new HashMap<>();
+
+    void clear() {
+        terms.clear();
+        students.clear();
+    }
+
+    void put(StudentSummaryDTO summary) {
+        remove(summary.id());
+        Set<String> studentTerms = termsOf(summary);
+        students.put(summary.id(), new Indexed(summary, studentTerms));
+        studentTerms.forEach(term -> terms.computeIfAbsent(term, key -> new LinkedHashSet<>()).add(summary.id()));
+    }
+
+    void remove(Long id) {
+        Indexed existing = students.remove(id);
+        if (existing == null) {
+            return;
+        }
+        existing.terms().forEach(term -> {
+            Set<Long> bucket = terms.get(term);
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                terms.remove(term);
+            }
+        });
+    }
+
+    // A student matches when each query word prefixes one of its terms. Candidates come from the
+    // first word's range in the lexicographic order of the matching terms and are checked against
+    // the other words on their own few terms, so the scan stops as soon as max have matched
+    // instead of collecting every student under a short prefix.
+    List<StudentSummaryDTO> search(String query, int max) {
+        List<String> words = queryWords(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        List<String> others = words.subList(1, words.size());
+        String first = words.get(0);
+
+        Set<Long> seen = new HashSet<>();
+        List<StudentSummaryDTO> result = new ArrayList<>(max);
+        for (Set<Long> bucket : terms.subMap(first, true, first + Character.MAX_VALUE, false).values()) {
+            for (Long id : bucket) {
+                if (!seen.add(id)) {
+                    continue;
+                }
+                Indexed student = students.get(id);
+                if (others.stream().allMatch(student::hasTermStartingWith)) {
+                    result.add(student.summary());
+                    if (result.size() == max) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return students.size();
+    }
+
+    private static Set<String> termsOf(StudentSummaryDTO summary) {
+        Set<String> result = new HashSet<>(words(summary.name()));
+        if (summary.email() != null && !summary.email().isBlank()) {
+            String email = normalize(summary.email()).trim();
+            result.add(email);
+            for (String part : email.split("[@._\\-+]+")) {
+                if (!part.isEmpty()) {
+                    result.add(part);
+                }
+            }
+        }
+        if (summary.phone() != null) {
+            String digits = NON_DIGITS.matcher(summary.phone()).replaceAll("");
+            if (!digits.isEmpty()) {
+                result.add(digits);
+                // Also findable without the area code
+                if (digits.length() >= 10) {
+                    result.add(digits.substring(2));
+                }
+            }
+        }
+        return result;
+    }
+
+    // A query with no letters is taken as a phone number, whatever its punctuation.
+    private static List<String> queryWords(String query) {
+        if (query != null && query.chars().noneMatch(Character::isLetter)) {
+            String digits = NON_DIGITS.matcher(query).replaceAll("");
+            return digits.isEmpty() ? List.of() : List.of(digits);
+        }
+        return words(query);
+    }
+
+    private static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        for (String word : SEPARATORS.split(normalize(text))) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    // Lowercase without diacritics: "João" and "joao" are the same term.
+    private static String normalize(String text) {
+        return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private record Indexed(StudentSummaryDTO summary, Set<String> terms) {
+
+        boolean hasTermStartingWith(String prefix) {
+            for (String term : terms) {
+                if (term.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
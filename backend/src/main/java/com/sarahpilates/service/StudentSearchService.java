@@ -0,0 +1,105 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.dto.student.StudentSummaryDTO;
+import com.sarahpilates.event.StudentChangedEvent;
+import com.sarahpilates.event.StudentsImportedEvent;
+import com.sarahpilates.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Typeahead over student name, email and phone, backed by StudentSearchIndex. Built at startup
+// and kept current from StudentChangedEvent.
+//
+// Writers take the update lock around both the database read and the index change, so two
+// changes to the same student are applied in the order they were read: the later reader saw
+// both commits. Searches only wait for the short index change itself.
+@Service
+@RequiredArgsConstructor
+public class StudentSearchService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final StudentRepository studentRepository;
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final StudentSearchIndex index = new StudentSearchIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        updateLock.lock();
+        try {
+            List<StudentSummaryDTO> all = studentRepository.findAllSummaryList();
+            lock.writeLock().lock();
+            try {
+                index.clear();
+                all.forEach(index::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        updateLock.lock();
+        try {
+            StudentSummaryDTO summary = studentRepository.findSummaryById(event.studentId()).orElse(null);
+            lock.writeLock().lock();
+            try {
+                if (summary != null) {
+                    index.put(summary);
+                } else {
+                    index.remove(event.studentId());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStudentsImported(StudentsImportedEvent event) {
+        updateLock.lock();
+        try {
+            List<StudentSummaryDTO> imported = studentRepository.findSummariesByIdIn(event.studentIds());
+            lock.writeLock().lock();
+            try {
+                imported.forEach(index::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    public List<StudentSummaryDTO> search(String query, Integer limit) {
+        int max = limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        lock.readLock().lock();
+        try {
+            return index.search(query, max);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.sarahpilates.service;
 
 import com.sarahpilates.domain.student.Student;
+import com.sarahpilates.dto.document.DocumentContentDTO;
 import com.sarahpilates.dto.document.DocumentResponseDTO;
 import com.sarahpilates.dto.student.StudentRequestDTO;
 import com.sarahpilates.dto.student.StudentResponseDTO;
+import com.sarahpilates.dto.student.StudentSummaryDTO;
+import com.sarahpilates.event.StudentChangedEvent;
 import com.sarahpilates.mapper.StudentMapper;
 import com.sarahpilates.repository.DocumentRepository;
 import com.sarahpilates.repository.StudentRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -35,12 +39,14 @@ public class StudentService {
     private final StudentMapper studentMapper;
     private final DocumentMapper documentMapper;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public StudentResponseDTO createStudent(StudentRequestDTO studentDTO) {
         // TODO: Add validation, e.g., check if email is unique
         Student student = studentMapper.toEntity(studentDTO);
         Student savedStudent = studentRepository.save(student);
+        eventPublisher.publishEvent(new StudentChangedEvent(savedStudent.getId()));
         return studentMapper.toResponseDTO(savedStudent);
     }
 
@@ -57,6 +63,11 @@ public class StudentService {
                 .map(studentMapper::toResponseDTO);
     }
 
+    @Transactional(readOnly = true)
+    public Page<StudentSummaryDTO> findAllStudentSummaries(Pageable pageable) {
+        return studentRepository.findAllSummaries(pageable);
+    }
+
     @Transactional
     public StudentResponseDTO updateStudent(Long id, StudentRequestDTO studentDTO) {
         Student existingStudent = studentRepository.findById(id)
@@ -65,6 +76,7 @@ public class StudentService {
         studentMapper.updateEntityFromDto(studentDTO, existingStudent);
         
         Student updatedStudent = studentRepository.save(existingStudent);
+        eventPublisher.publishEvent(new StudentChangedEvent(updatedStudent.getId()));
         return studentMapper.toResponseDTO(updatedStudent);
     }
 
@@ -74,6 +86,7 @@ public class StudentService {
             throw new EntityNotFoundException("Student not found with id: " + id);
         }
         studentRepository.deleteById(id);
+        eventPublisher.publishEvent(new StudentChangedEvent(id));
     }
 
     @Transactional
@@ -81,15 +94,15 @@ public class StudentService {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new EntityNotFoundException("Student not found with id: " + studentId));
 
-        String fullPath = fileStorageService.storeFile(file);
-        String fileName = java.nio.file.Paths.get(fullPath).getFileName().toString();
-        
+        FileStorageService.StoredFile stored = fileStorageService.storeFile(file);
+
         Document doc = new Document();
         doc.setStudent(student);
-        doc.setFileName(fileName);
-        doc.setFilePath(fullPath); // Stores the real absolute path
+        doc.setFileName(displayName(file.getOriginalFilename()));
+        doc.setFilePath(stored.path());
+        doc.setContentHash(stored.contentHash());
         doc.setFileType(file.getContentType());
-        doc.setSize(file.getSize());
+        doc.setSize(stored.size());
         doc.setUploadDate(LocalDateTime.now());
 
         Document savedDoc = documentRepository.save(doc);
@@ -97,10 +110,29 @@ public class StudentService {
     }
 
     @Transactional(readOnly = true)
-    public org.springframework.core.io.Resource downloadDocument(Long documentId) {
+    public DocumentContentDTO downloadDocument(Long documentId) {
         Document document = documentRepository.findById(documentId)
                 .orElseThrow(() -> new EntityNotFoundException("Document not found with id: " + documentId));
-        
-        return fileStorageService.loadFileAsResource(document.getFilePath());
+
+        // Stored files are named by their hash, so the download name comes from the row. The
+        // resource is only a handle: the file is not touched until the body is written.
+        return new DocumentContentDTO(
+                fileStorageService.resourceFor(document.getFilePath()),
+                document.getFileName(),
+                document.getFileType(),
+                document.getContentHash(),
+                document.getUploadDate());
+    }
+
+    // Original name as sent by the client, reduced to its last path segment. Used for display and
+    // Content-Disposition only; stored files are named by their hash.
+    private static String displayName(String originalFilename) {
+        String name = originalFilename == null ? "" : originalFilename;
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("\\p{Cntrl}", "").strip();
+        if (name.isEmpty()) {
+            return "documento";
+        }
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
     }
 }
@@ -0,0 +1,284 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.domain.enums.PaymentStatus;
+import com.sarahpilates.domain.enums.ScheduleStatus;
+import com.sarahpilates.domain.enums.WaitlistStatus;
+import com.sarahpilates.domain.schedule.ClassSlotKey;
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+import com.sarahpilates.domain.schedule.WaitlistEntry;
+import com.sarahpilates.dto.schedule.ScheduleRequestDTO;
+import com.sarahpilates.dto.schedule.ScheduleResponseDTO;
+import com.sarahpilates.dto.waitlist.WaitlistEntryResponseDTO;
+import com.sarahpilates.dto.waitlist.WaitlistRequestDTO;
+import com.sarahpilates.event.ScheduleChangedEvent;
+import com.sarahpilates.exception.ClassFullException;
+import com.sarahpilates.exception.ScheduleConflictException;
+import com.sarahpilates.mapper.WaitlistMapper;
+import com.sarahpilates.repository.ClassTypeRepository;
+import com.sarahpilates.repository.InstructorRepository;
+import com.sarahpilates.repository.StudentRepository;
+import com.sarahpilates.repository.WaitlistEntryRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Queues students for full group classes and books them, in arrival order, as soon as a seat is
+// released. Promotion runs after the releasing transaction has committed, each student in a
+// transaction of its own, and only for slots that the in-memory index knows to have a queue;
+// every other cancellation costs a map lookup.
+@Slf4j
+@Service
+public class WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final StudentRepository studentRepository;
+    private final InstructorRepository instructorRepository;
+    private final ClassTypeRepository classTypeRepository;
+    private final ScheduleService scheduleService;
+    private final WaitlistMapper waitlistMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // Number of committed waiting entries per slot. A slot is only present while it has a queue.
+    private final ConcurrentMap<ClassSlotKey, Integer> waitingBySlot = new ConcurrentHashMap<>();
+    // Slots whose last promotion failed unexpectedly, e.g. on a lost connection; retried on a timer
+    // so their queue does not wait for the next cancellation.
+    private final Set<ClassSlotKey> retrySlots = ConcurrentHashMap.newKeySet();
+
+    public WaitlistService(WaitlistEntryRepository waitlistEntryRepository,
+                           StudentRepository studentRepository,
+                           InstructorRepository instructorRepository,
+                           ClassTypeRepository classTypeRepository,
+                           ScheduleService scheduleService,
+                           WaitlistMapper waitlistMapper,
+                           PlatformTransactionManager transactionManager) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.studentRepository = studentRepository;
+        this.instructorRepository = instructorRepository;
+        this.classTypeRepository = classTypeRepository;
+        this.scheduleService = scheduleService;
+        this.waitlistMapper = waitlistMapper;
+        // Promotions start from after-commit callbacks, where the finished transaction is still
+        // bound to the thread, so they always need a fresh one.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWaitingSlots() {
+        waitlistEntryRepository.findSlotKeys(WaitlistStatus.AGUARDANDO, LocalDate.now())
+                .forEach(key -> waitingBySlot.merge(key, 1, Integer::sum));
+    }
+
+    // Books the class straight away when it still has a seat, otherwise joins the queue.
+    public WaitlistEntryResponseDTO join(WaitlistRequestDTO dto) {
+        try {
+            return transactionTemplate.execute(status -> {
+                ScheduleResponseDTO booked = scheduleService.createSchedule(toScheduleRequest(dto));
+                WaitlistEntry entry = newEntry(dto);
+                entry.setStatus(WaitlistStatus.PROMOVIDO);
+                entry.setScheduleId(booked.id());
+                entry.setPromotedAt(LocalDateTime.now());
+                return waitlistMapper.toResponseDTO(waitlistEntryRepository.save(entry));
+            });
+        } catch (ClassFullException ex) {
+            return transactionTemplate.execute(status -> enqueue(dto));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<WaitlistEntryResponseDTO> findWaiting(ClassSlotKey slot) {
+        return waitlistEntryRepository.findBySlot(slot.instructorId(), slot.date(), slot.startTime(), WaitlistStatus.AGUARDANDO)
+                .stream()
+                .map(waitlistMapper::toResponseDTO)
+                .toList();
+    }
+
+    @Transactional
+    public void leave(Long id) {
+        WaitlistEntry entry = waitlistEntryRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Waitlist entry not found"));
+        if (entry.getStatus() != WaitlistStatus.AGUARDANDO) {
+            throw new IllegalArgumentException("Waitlist entry is no longer waiting");
+        }
+        entry.setStatus(WaitlistStatus.CANCELADO);
+        afterCommit(() -> decrement(entry.slotKey()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        ClassSlotKey freed = freedSlot(event.before(), event.after());
+        if (freed != null && waitingBySlot.containsKey(freed)) {
+            promote(freed);
+        }
+    }
+
+    private WaitlistEntryResponseDTO enqueue(WaitlistRequestDTO dto) {
+        if (waitlistEntryRepository.existsByStudentIdAndInstructorIdAndDateAndStartTimeAndStatus(
+                dto.studentId(), dto.instructorId(), dto.date(), dto.startTime(), WaitlistStatus.AGUARDANDO)) {
+            throw new IllegalArgumentException("Student is already on the waitlist for this class");
+        }
+        WaitlistEntry entry = newEntry(dto);
+        entry.setStatus(WaitlistStatus.AGUARDANDO);
+        WaitlistEntry saved = waitlistEntryRepository.save(entry);
+        // A seat may have been released between the failed booking and this commit, so the queue
+        // gets a promotion attempt straight away.
+        ClassSlotKey slot = saved.slotKey();
+        afterCommit(() -> {
+            waitingBySlot.merge(slot, 1, Integer::sum);
+            promote(slot);
+        });
+        return waitlistMapper.toResponseDTO(saved);
+    }
+
+    // Fills released seats from the head of the queue until the class is full again or the queue
+    // is empty. Students whose booking would now clash with another class are dropped.
+    private void promote(ClassSlotKey slot) {
+        try {
+            while (true) {
+                AtomicReference<WaitlistEntry> candidate = new AtomicReference<>();
+                try {
+                    Boolean promoted = transactionTemplate.execute(status -> promoteNext(slot, candidate));
+                    if (!Boolean.TRUE.equals(promoted)) {
+                        return;
+                    }
+                } catch (ClassFullException ex) {
+                    return;
+                } catch (ScheduleConflictException ex) {
+                    cancel(candidate.get());
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Waitlist promotion failed for slot {}, will retry", slot, ex);
+            retrySlots.add(slot);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${waitlist.retry-delay-ms:60000}")
+    public void retryFailedPromotions() {
+        LocalDate today = LocalDate.now();
+        for (ClassSlotKey slot : List.copyOf(retrySlots)) {
+            retrySlots.remove(slot);
+            if (!slot.date().isBefore(today) && waitingBySlot.containsKey(slot)) {
+                promote(slot);
+            }
+        }
+    }
+
+    private boolean promoteNext(ClassSlotKey slot, AtomicReference<WaitlistEntry> candidate) {
+        WaitlistEntry entry = waitlistEntryRepository
+                .findNextWaitingForUpdate(slot.instructorId(), slot.date(), slot.startTime())
+                .orElse(null);
+        if (entry == null) {
+            return false;
+        }
+        candidate.set(entry);
+
+        ScheduleResponseDTO booked = scheduleService.createSchedule(new ScheduleRequestDTO(
+                entry.getStudent().getId(),
+                entry.getInstructor().getId(),
+                entry.getClassType().getId(),
+                entry.getDate(),
+                entry.getStartTime(),
+                entry.getEndTime(),
+                ScheduleStatus.AGENDADO,
+                PaymentStatus.PENDENTE,
+                entry.getPrice(),
+                entry.getRoom(),
+                null
+        ));
+        entry.setStatus(WaitlistStatus.PROMOVIDO);
+        entry.setScheduleId(booked.id());
+        entry.setPromotedAt(LocalDateTime.now());
+        afterCommit(() -> decrement(slot));
+        return true;
+    }
+
+    private void cancel(WaitlistEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        log.info("Dropping waitlist entry {}: its booking conflicts with another class", entry.getId());
+        transactionTemplate.executeWithoutResult(status -> waitlistEntryRepository.findById(entry.getId())
+                .filter(current -> current.getStatus() == WaitlistStatus.AGUARDANDO)
+                .ifPresent(current -> {
+                    current.setStatus(WaitlistStatus.CANCELADO);
+                    afterCommit(() -> decrement(current.slotKey()));
+                }));
+    }
+
+    private void decrement(ClassSlotKey slot) {
+        waitingBySlot.computeIfPresent(slot, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private WaitlistEntry newEntry(WaitlistRequestDTO dto) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setStudent(studentRepository.findById(dto.studentId())
+                .orElseThrow(() -> new EntityNotFoundException("Student not found")));
+        entry.setInstructor(instructorRepository.findById(dto.instructorId())
+                .orElseThrow(() -> new EntityNotFoundException("Instructor not found")));
+        entry.setClassType(classTypeRepository.findById(dto.classTypeId())
+                .orElseThrow(() -> new EntityNotFoundException("ClassType not found")));
+        entry.setDate(dto.date());
+        entry.setStartTime(dto.startTime());
+        entry.setEndTime(dto.endTime());
+        entry.setPrice(dto.price());
+        entry.setRoom(dto.room());
+        return entry;
+    }
+
+    private static ScheduleRequestDTO toScheduleRequest(WaitlistRequestDTO dto) {
+        return new ScheduleRequestDTO(
+                dto.studentId(),
+                dto.instructorId(),
+                dto.classTypeId(),
+                dto.date(),
+                dto.startTime(),
+                dto.endTime(),
+                ScheduleStatus.AGENDADO,
+                PaymentStatus.PENDENTE,
+                dto.price(),
+                dto.room(),
+                null
+        );
+    }
+
+    // The slot whose seat this change gave back, if any.
+    private static ClassSlotKey freedSlot(ScheduleSnapshot before, ScheduleSnapshot after) {
+        if (before == null || !before.status().occupiesSlot() || before.date().isBefore(LocalDate.now())) {
+            return null;
+        }
+        ClassSlotKey slot = ClassSlotKey.of(before);
+        if (after != null && after.status().occupiesSlot() && slot.equals(ClassSlotKey.of(after))) {
+            return null;
+        }
+        return slot;
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.sarahpilates.web;
+
+import com.sarahpilates.dto.availability.AvailabilityWindowDTO;
+import com.sarahpilates.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @GetMapping
+    public ResponseEntity<List<AvailabilityWindowDTO>> getAvailability(
+            @RequestParam(required = false) Long instructorId,
+            @RequestParam(required = false) Long classTypeId,
+            @RequestParam(required = false) Integer duration,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(availabilityService.findAvailability(instructorId, classTypeId, duration, startDate, endDate));
+    }
+}
@@ -0,0 +1,43 @@
+package com.sarahpilates.web;
+
+import com.sarahpilates.service.CalendarFeedService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarFeedController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+
+    // Public: authorized by the feed token. Unchanged calendars get a 304 without a query.
+    @GetMapping("/instructors/{instructorId}.ics")
+    public ResponseEntity<String> getInstructorFeed(@PathVariable Long instructorId,
+                                                    @RequestParam(required = false) String token,
+                                                    WebRequest request) {
+        if (!calendarFeedService.isValidToken(instructorId, token)) {
+            throw new EntityNotFoundException("Calendar feed not found");
+        }
+        String etag = calendarFeedService.etag(instructorId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(TEXT_CALENDAR)
+                .body(calendarFeedService.render(instructorId));
+    }
+}
@@ -4,6 +4,7 @@ import com.sarahpilates.dto.evaluation.EvolutionRecordRequestDTO;
 import com.sarahpilates.dto.evaluation.EvolutionRecordResponseDTO;
 import com.sarahpilates.dto.evaluation.PhysicalEvaluationRequestDTO;
 import com.sarahpilates.dto.evaluation.PhysicalEvaluationResponseDTO;
+import com.sarahpilates.dto.page.KeysetPageDTO;
 import com.sarahpilates.service.EvaluationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +40,12 @@ public class EvaluationController {
         return ResponseEntity.ok(evaluationService.findAllPhysicalEvaluations(pageable));
     }
 
+    @GetMapping("/physical/scroll")
+    public ResponseEntity<KeysetPageDTO<PhysicalEvaluationResponseDTO>> scrollPhysicalEvaluations(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(evaluationService.scrollPhysicalEvaluations(null, cursor, size));
+    }
+
     @PutMapping("/physical/{id}")
     public ResponseEntity<PhysicalEvaluationResponseDTO> updatePhysicalEvaluation(@PathVariable Long id, @Valid @RequestBody PhysicalEvaluationRequestDTO dto) {
         return ResponseEntity.ok(evaluationService.updatePhysicalEvaluation(id, dto));
@@ -68,6 +75,12 @@ public class EvaluationController {
         return ResponseEntity.ok(evaluationService.findAllEvolutionRecords(pageable));
     }
 
+    @GetMapping("/evolution/scroll")
+    public ResponseEntity<KeysetPageDTO<EvolutionRecordResponseDTO>> scrollEvolutionRecords(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(evaluationService.scrollEvolutionRecords(null, cursor, size));
+    }
+
     @PutMapping("/evolution/{id}")
     public ResponseEntity<EvolutionRecordResponseDTO> updateEvolutionRecord(@PathVariable Long id, @Valid @RequestBody EvolutionRecordRequestDTO dto) {
         return ResponseEntity.ok(evaluationService.updateEvolutionRecord(id, dto));
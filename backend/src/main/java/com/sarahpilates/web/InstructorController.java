@@ -1,7 +1,9 @@
 package com.sarahpilates.web;
 
+import com.sarahpilates.dto.calendar.CalendarFeedLinkDTO;
 import com.sarahpilates.dto.instructor.InstructorRequestDTO;
 import com.sarahpilates.dto.instructor.InstructorResponseDTO;
+import com.sarahpilates.service.CalendarFeedService;
 import com.sarahpilates.service.InstructorService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 
@@ -18,6 +21,7 @@ import java.net.URI;
 public class InstructorController {
 
     private final InstructorService instructorService;
+    private final CalendarFeedService calendarFeedService;
 
     @PostMapping
     public ResponseEntity<InstructorResponseDTO> createInstructor(@Valid @RequestBody InstructorRequestDTO instructorDTO) {
@@ -35,6 +39,13 @@ public class InstructorController {
         return ResponseEntity.ok(instructorService.findInstructorById(id));
     }
 
+    // Subscription URL for calendar apps; it embeds the instructor's feed token.
+    @GetMapping("/{id}/calendar-feed")
+    public ResponseEntity<CalendarFeedLinkDTO> getCalendarFeed(@PathVariable Long id) {
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath().toUriString() + calendarFeedService.feedPath(id);
+        return ResponseEntity.ok(new CalendarFeedLinkDTO(url));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<InstructorResponseDTO> updateInstructor(@PathVariable Long id, @Valid @RequestBody InstructorRequestDTO instructorDTO) {
         return ResponseEntity.ok(instructorService.updateInstructor(id, instructorDTO));
@@ -0,0 +1,53 @@
+package com.sarahpilates.web;
+
+import com.sarahpilates.dto.payroll.PayrollRunRequestDTO;
+import com.sarahpilates.dto.payroll.PayrollRunResponseDTO;
+import com.sarahpilates.service.PayrollService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/payroll/runs")
+@RequiredArgsConstructor
+public class PayrollController {
+
+    private final PayrollService payrollService;
+
+    @PostMapping
+    public ResponseEntity<PayrollRunResponseDTO> run(@Valid @RequestBody PayrollRunRequestDTO dto) {
+        return ResponseEntity.ok(payrollService.run(dto));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<PayrollRunResponseDTO>> getAllRuns() {
+        return ResponseEntity.ok(payrollService.findAllRuns());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PayrollRunResponseDTO> getRunById(@PathVariable Long id) {
+        return ResponseEntity.ok(payrollService.findRunById(id));
+    }
+
+    @PostMapping("/{id}/close")
+    public ResponseEntity<PayrollRunResponseDTO> closeRun(@PathVariable Long id) {
+        return ResponseEntity.ok(payrollService.closeRun(id));
+    }
+
+    @GetMapping("/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportCsv(@PathVariable Long id) {
+        // Fail with 404 before the response is committed
+        payrollService.findRunById(id);
+        StreamingResponseBody body = out -> payrollService.writeCsv(id, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"payroll-" + id + ".csv\"")
+                .contentType(new MediaType("text", "csv"))
+                .body(body);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sarahpilates.web;
+
+import com.sarahpilates.dto.report.InstructorUtilizationDTO;
+import com.sarahpilates.dto.report.UtilizationPeriod;
+import com.sarahpilates.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportService reportService;
+
+    @GetMapping("/instructor-utilization")
+    public ResponseEntity<List<InstructorUtilizationDTO>> getInstructorUtilization(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "WEEK") UtilizationPeriod period,
+            @RequestParam(required = false) Long instructorId) {
+        return ResponseEntity.ok(reportService.instructorUtilization(startDate, endDate, period, instructorId));
+    }
+}
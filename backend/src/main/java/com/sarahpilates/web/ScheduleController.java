@@ -1,18 +1,31 @@
 package com.sarahpilates.web;
 
+import com.sarahpilates.dto.page.KeysetPageDTO;
+import com.sarahpilates.dto.schedule.ScheduleBulkResultDTO;
+import com.sarahpilates.dto.schedule.ScheduleBulkStatusRequestDTO;
+import com.sarahpilates.dto.schedule.ScheduleExportFormat;
 import com.sarahpilates.dto.schedule.ScheduleRequestDTO;
 import com.sarahpilates.dto.schedule.ScheduleResponseDTO;
+import com.sarahpilates.dto.schedule.ScheduleSeriesRequestDTO;
+import com.sarahpilates.service.ScheduleExportService;
 import com.sarahpilates.service.ScheduleService;
+import com.sarahpilates.service.ScheduleStreamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/schedules")
@@ -20,6 +33,8 @@ import java.time.LocalDate;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleExportService scheduleExportService;
+    private final ScheduleStreamService scheduleStreamService;
 
     @PostMapping
     public ResponseEntity<ScheduleResponseDTO> createSchedule(@Valid @RequestBody ScheduleRequestDTO dto) {
@@ -27,6 +42,33 @@ public class ScheduleController {
         return ResponseEntity.created(URI.create("/api/schedules/" + created.id())).body(created);
     }
 
+    @PostMapping("/series")
+    public ResponseEntity<List<ScheduleResponseDTO>> createSeries(@Valid @RequestBody ScheduleSeriesRequestDTO dto) {
+        return new ResponseEntity<>(scheduleService.createSeries(dto), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSchedules(
+            @RequestParam(defaultValue = "CSV") ScheduleExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        StreamingResponseBody body = out -> scheduleExportService.export(format, startDate, endDate, out);
+        boolean csv = format == ScheduleExportFormat.CSV;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"schedules." + (csv ? "csv" : "ndjson") + "\"")
+                .contentType(csv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .body(body);
+    }
+
+    // Server-sent events for committed schedule changes, optionally filtered by instructor and dates.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScheduleChanges(
+            @RequestParam(required = false) Long instructorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return scheduleStreamService.subscribe(instructorId, startDate, endDate);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ScheduleResponseDTO> getScheduleById(@PathVariable Long id) {
         return ResponseEntity.ok(scheduleService.findScheduleById(id));
@@ -40,11 +82,25 @@ public class ScheduleController {
         return ResponseEntity.ok(scheduleService.findAllSchedules(startDate, endDate, pageable));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetPageDTO<ScheduleResponseDTO>> scrollSchedules(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(scheduleService.scrollSchedules(cursor, startDate, endDate, size));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ScheduleResponseDTO> updateSchedule(@PathVariable Long id, @Valid @RequestBody ScheduleRequestDTO dto) {
         return ResponseEntity.ok(scheduleService.updateSchedule(id, dto));
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<List<ScheduleBulkResultDTO>> bulkUpdateStatus(@Valid @RequestBody ScheduleBulkStatusRequestDTO dto) {
+        return ResponseEntity.ok(scheduleService.bulkUpdateStatus(dto));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteSchedule(@PathVariable Long id) {
         scheduleService.deleteSchedule(id);
@@ -1,25 +1,44 @@
 package com.sarahpilates.web;
 
+import com.sarahpilates.dto.document.DocumentContentDTO;
 import com.sarahpilates.dto.document.DocumentResponseDTO;
 import com.sarahpilates.dto.evaluation.EvolutionRecordResponseDTO;
 import com.sarahpilates.dto.evaluation.PhysicalEvaluationResponseDTO;
+import com.sarahpilates.dto.page.KeysetPageDTO;
+import com.sarahpilates.dto.student.StudentImportResultDTO;
+import com.sarahpilates.dto.student.StudentOverviewDTO;
 import com.sarahpilates.dto.student.StudentRequestDTO;
 import com.sarahpilates.dto.student.StudentResponseDTO;
+import com.sarahpilates.dto.student.StudentSummaryDTO;
 import com.sarahpilates.dto.schedule.ScheduleResponseDTO;
 import com.sarahpilates.service.EvaluationService;
+import com.sarahpilates.service.StudentImportService;
+import com.sarahpilates.service.StudentOverviewService;
 import com.sarahpilates.service.ScheduleService;
+import com.sarahpilates.service.StudentSearchService;
 import com.sarahpilates.service.StudentService;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -30,6 +49,9 @@ public class StudentController {
     private final StudentService studentService;
     private final EvaluationService evaluationService;
     private final ScheduleService scheduleService;
+    private final StudentSearchService studentSearchService;
+    private final StudentImportService studentImportService;
+    private final StudentOverviewService studentOverviewService;
 
     @PostMapping
     public ResponseEntity<StudentResponseDTO> createStudent(@Valid @RequestBody StudentRequestDTO studentDTO) {
@@ -37,12 +59,30 @@ public class StudentController {
         return ResponseEntity.created(URI.create("/api/students/" + createdStudent.id())).body(createdStudent);
     }
 
+    // CSV with a header row; invalid rows are reported by line and skipped.
+    @PostMapping("/import")
+    public ResponseEntity<StudentImportResultDTO> importStudents(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(studentImportService.importCsv(file));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<StudentResponseDTO> getStudentById(@PathVariable Long id) {
         StudentResponseDTO student = studentService.findStudentById(id);
         return ResponseEntity.ok(student);
     }
 
+    // Student, next class and latest evaluations in one round trip.
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<StudentOverviewDTO> getStudentOverview(@PathVariable Long id) {
+        return ResponseEntity.ok(studentOverviewService.findOverview(id));
+    }
+
+    // Next class of every listed student; students without one are left out of the map.
+    @GetMapping("/next-classes")
+    public ResponseEntity<Map<Long, ScheduleResponseDTO>> getNextClasses(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(scheduleService.findNextClassByStudents(new LinkedHashSet<>(ids)));
+    }
+
     @GetMapping("/{id}/next-class")
     public ResponseEntity<?> getNextClass(@PathVariable Long id) {
         Optional<ScheduleResponseDTO> nextClass = scheduleService.findNextClassByStudent(id);
@@ -56,6 +96,18 @@ public class StudentController {
         return ResponseEntity.ok(students);
     }
 
+    // List views: one narrow query per page, documents and anamnesis are never loaded.
+    @GetMapping("/summary")
+    public ResponseEntity<Page<StudentSummaryDTO>> getStudentSummaries(Pageable pageable) {
+        return ResponseEntity.ok(studentService.findAllStudentSummaries(pageable));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<StudentSummaryDTO>> searchStudents(@RequestParam("q") String query,
+                                                                  @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(studentSearchService.search(query, limit));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<StudentResponseDTO> updateStudent(@PathVariable Long id, @Valid @RequestBody StudentRequestDTO studentDTO) {
         StudentResponseDTO updatedStudent = studentService.updateStudent(id, studentDTO);
@@ -74,16 +126,36 @@ public class StudentController {
         return new ResponseEntity<>(document, HttpStatus.CREATED);
     }
 
+    // Conditional and range requests: a matching If-None-Match or If-Modified-Since gets a 304
+    // from the document row alone, and a Range header gets a 206 with the requested bytes
+    // (handled by Spring for Resource bodies). A document's bytes never change, since stored
+    // files are named by their hash, so the ETag is strong and If-Range needs no extra check.
     @GetMapping("/documents/{documentId}/download")
-    public ResponseEntity<org.springframework.core.io.Resource> downloadDocument(@PathVariable Long documentId) {
-        org.springframework.core.io.Resource resource = studentService.downloadDocument(documentId);
-
-        // Try to determine filename (or use ID if not available, though resource usually has filename)
-        String filename = resource.getFilename(); 
-        
-        return ResponseEntity.ok()
-                .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                .body(resource);
+    public ResponseEntity<org.springframework.core.io.Resource> downloadDocument(@PathVariable Long documentId,
+                                                                                 WebRequest request) {
+        DocumentContentDTO content = studentService.downloadDocument(documentId);
+        String etag = content.contentHash() != null ? "\"" + content.contentHash() + "\"" : null;
+        long lastModified = content.uploadDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (request.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+        if (!content.resource().isReadable()) {
+            throw new EntityNotFoundException("Document file not found for id: " + documentId);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(content.fileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .lastModified(lastModified)
+                .contentType(mediaTypeOf(content.fileType()));
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(content.resource());
     }
 
     // --- Nested Evaluation Endpoints ---
@@ -99,4 +171,31 @@ public class StudentController {
             @PathVariable Long studentId, Pageable pageable) {
         return ResponseEntity.ok(evaluationService.findAllEvolutionRecordsByStudent(studentId, pageable));
     }
+
+    @GetMapping("/{studentId}/evaluations/physical/scroll")
+    public ResponseEntity<KeysetPageDTO<PhysicalEvaluationResponseDTO>> scrollPhysicalEvaluationsByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(evaluationService.scrollPhysicalEvaluations(studentId, cursor, size));
+    }
+
+    @GetMapping("/{studentId}/evaluations/evolution/scroll")
+    public ResponseEntity<KeysetPageDTO<EvolutionRecordResponseDTO>> scrollEvolutionRecordsByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(evaluationService.scrollEvolutionRecords(studentId, cursor, size));
+    }
+
+    private static MediaType mediaTypeOf(String fileType) {
+        if (fileType == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(fileType);
+        } catch (InvalidMediaTypeException ex) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
 }
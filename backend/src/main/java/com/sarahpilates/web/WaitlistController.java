@@ -0,0 +1,44 @@
+package com.sarahpilates.web;
+
+import com.sarahpilates.domain.schedule.ClassSlotKey;
+import com.sarahpilates.dto.waitlist.WaitlistEntryResponseDTO;
+import com.sarahpilates.dto.waitlist.WaitlistRequestDTO;
+import com.sarahpilates.service.WaitlistService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    // Returns the entry already promoted when the class still had a seat.
+    @PostMapping
+    public ResponseEntity<WaitlistEntryResponseDTO> join(@Valid @RequestBody WaitlistRequestDTO dto) {
+        return new ResponseEntity<>(waitlistService.join(dto), HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<WaitlistEntryResponseDTO>> getWaiting(
+            @RequestParam Long instructorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime startTime) {
+        return ResponseEntity.ok(waitlistService.findWaiting(new ClassSlotKey(instructorId, date, startTime)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> leave(@PathVariable Long id) {
+        waitlistService.leave(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,4 @@
+-- V11__Add_Schedule_Date_Index.sql
+-- Índice para a listagem paginada por período e para a contagem de aulas do dia.
+
+CREATE INDEX idx_schedules_date_start_time ON schedules (date, start_time);
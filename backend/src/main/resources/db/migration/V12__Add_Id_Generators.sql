@@ -0,0 +1,12 @@
+-- V12__Add_Id_Generators.sql
+-- Tabela de geradores de id (pooled) usada pelo Hibernate para permitir inserts em lote.
+-- O otimizador pooled trata o valor gravado como o limite superior do próximo bloco de 50 ids,
+-- por isso a semente é o maior id atual somado a um bloco.
+
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'schedules', COALESCE(MAX(id), 0) + 50 FROM schedules;
@@ -0,0 +1,21 @@
+-- V13__Seed_Id_Generators.sql
+-- Passa as demais entidades para o gerador pooled criado em V12.
+-- Mesma regra de semente: maior id atual somado a um bloco de 50.
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'students', COALESCE(MAX(id), 0) + 50 FROM students;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'physical_evaluations', COALESCE(MAX(id), 0) + 50 FROM physical_evaluations;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'evolution_records', COALESCE(MAX(id), 0) + 50 FROM evolution_records;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'working_hours', COALESCE(MAX(id), 0) + 50 FROM working_hours;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'documents', COALESCE(MAX(id), 0) + 50 FROM documents;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) + 50 FROM users;
@@ -0,0 +1,9 @@
+-- V14__Add_Evaluation_Keyset_Indexes.sql
+-- Índices para a paginação por cursor (date, id) das avaliações e evoluções.
+-- O InnoDB já anexa a chave primária a cada índice secundário.
+
+CREATE INDEX idx_physical_evaluations_date ON physical_evaluations (date);
+CREATE INDEX idx_physical_evaluations_student_date ON physical_evaluations (student_id, date);
+
+CREATE INDEX idx_evolution_records_date ON evolution_records (date);
+CREATE INDEX idx_evolution_records_student_date ON evolution_records (student_id, date);
@@ -0,0 +1,20 @@
+-- V15__Add_Class_Slots.sql
+-- Contador de vagas por horário de aula (instrutor, data, início) para respeitar class_types.capacity.
+
+CREATE TABLE class_slots (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    instructor_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    booked_count INT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_class_slots_instructor_date_start UNIQUE (instructor_id, date, start_time),
+    FOREIGN KEY (instructor_id) REFERENCES instructors(id) ON DELETE CASCADE
+);
+
+-- Agendamentos existentes que ainda ocupam vaga
+INSERT INTO class_slots (instructor_id, date, start_time, booked_count, version)
+SELECT instructor_id, date, start_time, COUNT(*), 0
+FROM schedules
+WHERE status <> 'CANCELADO'
+GROUP BY instructor_id, date, start_time;
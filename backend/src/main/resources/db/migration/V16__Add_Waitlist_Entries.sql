@@ -0,0 +1,23 @@
+-- V16__Add_Waitlist_Entries.sql
+-- Fila de espera por horário de aula. A ordem de promoção é (created_at, id).
+
+CREATE TABLE waitlist_entries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    student_id BIGINT NOT NULL,
+    instructor_id BIGINT NOT NULL,
+    class_type_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    price DECIMAL(10, 2),
+    room VARCHAR(100),
+    status VARCHAR(50) NOT NULL,
+    schedule_id BIGINT NULL,
+    created_at DATETIME NOT NULL,
+    promoted_at DATETIME NULL,
+    FOREIGN KEY (student_id) REFERENCES students(id) ON DELETE CASCADE,
+    FOREIGN KEY (instructor_id) REFERENCES instructors(id) ON DELETE CASCADE,
+    FOREIGN KEY (class_type_id) REFERENCES class_types(id)
+);
+
+CREATE INDEX idx_waitlist_entries_slot ON waitlist_entries (instructor_id, date, start_time, status, created_at);
@@ -0,0 +1,19 @@
+-- V17__Add_Daily_Revenue.sql
+-- Receita consolidada por dia de aula, mantida incrementalmente pelo backend
+-- e reconciliada todas as noites a partir de schedules.
+
+CREATE TABLE daily_revenue (
+    revenue_date DATE PRIMARY KEY,
+    paid_amount DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    paid_classes INT NOT NULL DEFAULT 0,
+    pending_amount DECIMAL(12, 2) NOT NULL DEFAULT 0
+);
+
+INSERT INTO daily_revenue (revenue_date, paid_amount, paid_classes, pending_amount)
+SELECT date,
+       SUM(CASE WHEN payment_status = 'PAGO' THEN price ELSE 0 END),
+       SUM(CASE WHEN payment_status = 'PAGO' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN payment_status = 'PENDENTE' THEN price ELSE 0 END)
+FROM schedules
+WHERE status <> 'CANCELADO' AND price IS NOT NULL
+GROUP BY date;
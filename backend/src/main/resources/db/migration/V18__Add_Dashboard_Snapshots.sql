@@ -0,0 +1,9 @@
+-- V18__Add_Dashboard_Snapshots.sql
+-- Um registro por dia com os últimos números do painel, usado como base das variações.
+
+CREATE TABLE dashboard_snapshots (
+    snapshot_date DATE PRIMARY KEY,
+    total_students BIGINT NOT NULL,
+    today_classes BIGINT NOT NULL,
+    taken_at DATETIME NOT NULL
+);
@@ -0,0 +1,26 @@
+-- V19__Add_Payroll_Runs.sql
+-- Folha de pagamento dos instrutores por período. Uma execução fechada não é recalculada.
+
+CREATE TABLE payroll_runs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    period_start DATE NOT NULL,
+    period_end DATE NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    total_amount DECIMAL(12, 2) NOT NULL,
+    computed_at DATETIME NOT NULL,
+    closed_at DATETIME NULL,
+    UNIQUE KEY uk_payroll_runs_period (period_start, period_end)
+);
+
+-- Nome e valor-hora copiados: a linha continua válida se o instrutor mudar ou for removido
+CREATE TABLE payroll_lines (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    run_id BIGINT NOT NULL,
+    instructor_id BIGINT NOT NULL,
+    instructor_name VARCHAR(255) NOT NULL,
+    sessions BIGINT NOT NULL,
+    minutes BIGINT NOT NULL,
+    hourly_rate DECIMAL(10, 2),
+    amount DECIMAL(12, 2) NOT NULL,
+    FOREIGN KEY (run_id) REFERENCES payroll_runs(id) ON DELETE CASCADE
+);
@@ -0,0 +1,4 @@
+-- V20__Add_Schedule_Student_Date_Index.sql
+-- Próxima aula por aluno: busca por student_id já ordenada por data e horário.
+
+CREATE INDEX idx_schedules_student_date_start_time ON schedules (student_id, date, start_time);
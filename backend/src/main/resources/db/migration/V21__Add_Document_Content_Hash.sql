@@ -0,0 +1,7 @@
+-- V21__Add_Document_Content_Hash.sql
+-- Documentos endereçados por conteúdo: o arquivo é gravado com o nome do seu SHA-256 e
+-- compartilhado por todos os documentos com o mesmo conteúdo. Arquivos antigos ficam sem hash.
+
+ALTER TABLE documents ADD COLUMN content_hash CHAR(64) NULL;
+
+CREATE INDEX idx_documents_content_hash ON documents (content_hash);
@@ -0,0 +1,4 @@
+-- V22__Drop_Class_Slots_Version.sql
+-- As vagas são controladas por UPDATE condicional e SELECT ... FOR UPDATE; a versão não era usada.
+
+ALTER TABLE class_slots DROP COLUMN version;
@@ -0,0 +1,9 @@
+-- V23__Create_App_Locks.sql
+-- Linhas usadas como trava (SELECT ... FOR UPDATE) para serializar operações que checam e depois
+-- inserem, como a criação de folhas de pagamento com períodos sobrepostos.
+
+CREATE TABLE app_locks (
+    name VARCHAR(64) NOT NULL PRIMARY KEY
+);
+
+INSERT INTO app_locks (name) VALUES ('payroll_runs');
@@ -0,0 +1,18 @@
+package com.sarahpilates;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+
+// MySQL for tests that depend on its locking and native SQL. Flyway migrates it on startup, so the
+// tests see the real schema and the seed data.
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mysqlContainer() {
+        return new MySQLContainer<>("mysql:8.0");
+    }
+}
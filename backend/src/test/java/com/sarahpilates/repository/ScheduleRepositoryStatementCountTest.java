@@ -0,0 +1,78 @@
+package com.sarahpilates.repository;
+
+import com.sarahpilates.TestcontainersConfiguration;
+import com.sarahpilates.dto.schedule.ScheduleRowDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A listing page must cost the row query and the count query, however many rows it holds.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+class ScheduleRepositoryStatementCountTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2000, 1, 3);
+    private static final int SCHEDULES = 60;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Spread over the seed students, instructors and class types, so the page joins several of each
+        List<Long> students = entityManager.createQuery("SELECT s.id FROM Student s", Long.class).getResultList();
+        List<Long> instructors = entityManager.createQuery("SELECT i.id FROM Instructor i", Long.class).getResultList();
+        List<Long> classTypes = entityManager.createQuery("SELECT c.id FROM ClassType c", Long.class).getResultList();
+        for (int i = 0; i < SCHEDULES; i++) {
+            entityManager.createNativeQuery("INSERT INTO schedules (student_id, instructor_id, class_type_id, date, "
+                            + "start_time, end_time, status, payment_status, price, room) VALUES (:studentId, "
+                            + ":instructorId, :classTypeId, :date, '08:00:00', '09:00:00', 'AGENDADO', 'PENDENTE', "
+                            + "80.00, 'Sala 1')")
+                    .setParameter("studentId", students.get(i % students.size()))
+                    .setParameter("instructorId", instructors.get(i % instructors.size()))
+                    .setParameter("classTypeId", classTypes.get(i % classTypes.size()))
+                    .setParameter("date", FIRST_DAY.plusDays(i % 10))
+                    .executeUpdate();
+        }
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 25, 50})
+    void listingPageRunsRowAndCountQueriesOnly(int pageSize) {
+        Page<ScheduleRowDTO> page = scheduleRepository.findRowsByDateBetween(
+                FIRST_DAY, FIRST_DAY.plusDays(9), PageRequest.of(0, pageSize));
+
+        assertThat(page.getContent()).hasSize(pageSize)
+                .allSatisfy(row -> assertThat(row.studentName()).isNotNull())
+                .allSatisfy(row -> assertThat(row.instructorName()).isNotNull())
+                .allSatisfy(row -> assertThat(row.classTypeName()).isNotNull());
+        assertThat(page.getTotalElements()).isEqualTo(SCHEDULES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,149 @@
+package com.sarahpilates.service;
+
+import com.sarahpilates.TestcontainersConfiguration;
+import com.sarahpilates.domain.classtype.ClassType;
+import com.sarahpilates.domain.enums.PaymentStatus;
+import com.sarahpilates.domain.enums.ScheduleStatus;
+import com.sarahpilates.domain.schedule.ScheduleSnapshot;
+import com.sarahpilates.exception.ClassFullException;
+import com.sarahpilates.repository.ClassTypeRepository;
+import com.sarahpilates.repository.InstructorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Every call runs in a transaction of its own, as it does when bookings arrive on separate requests.
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class ClassCapacityServiceConcurrencyTest {
+
+    private static final int CAPACITY = 3;
+    private static final int REQUESTS = 20;
+    private static final LocalTime START_TIME = LocalTime.of(7, 0);
+
+    @Autowired
+    private ClassCapacityService classCapacityService;
+    @Autowired
+    private InstructorRepository instructorRepository;
+    @Autowired
+    private ClassTypeRepository classTypeRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long instructorId;
+    private Long classTypeId;
+    private Long otherClassTypeId;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        instructorId = instructorRepository.findAll().get(0).getId();
+        List<ClassType> classTypes = classTypeRepository.findAll();
+        classTypeId = classTypes.get(0).getId();
+        otherClassTypeId = classTypes.get(1).getId();
+        date = LocalDate.now().plusYears(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM class_slots WHERE instructor_id = ? AND date = ? AND start_time = ?",
+                instructorId, date, START_TIME);
+    }
+
+    @Test
+    void parallelClaimsNeverExceedCapacity() throws InterruptedException {
+        List<Runnable> claims = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            claims.add(() -> classCapacityService.claim(booking(classTypeId), CAPACITY));
+        }
+
+        List<Throwable> failures = runInParallel(claims);
+
+        assertThat(bookedCount()).isEqualTo(CAPACITY);
+        assertThat(failures).hasSize(REQUESTS - CAPACITY).allMatch(ClassFullException.class::isInstance);
+    }
+
+    @Test
+    void classTypeChangeRejectsSmallerCapacityThanBooked() {
+        for (int i = 0; i < CAPACITY; i++) {
+            classCapacityService.claim(booking(classTypeId), 10);
+        }
+
+        assertThatThrownBy(() -> classCapacityService.move(
+                booking(classTypeId), booking(otherClassTypeId), CAPACITY - 1))
+                .isInstanceOf(ClassFullException.class);
+        classCapacityService.move(booking(classTypeId), booking(otherClassTypeId), CAPACITY);
+        assertThat(bookedCount()).isEqualTo(CAPACITY);
+    }
+
+    // Class type changes lock the slot row while they check it; racing them against new bookings
+    // must neither add nor lose a seat.
+    @Test
+    void classTypeChangesRacingClaimsKeepTheCount() throws InterruptedException {
+        classCapacityService.claim(booking(classTypeId), CAPACITY);
+        classCapacityService.claim(booking(classTypeId), CAPACITY);
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            tasks.add(i % 2 == 0
+                    ? () -> classCapacityService.move(booking(classTypeId), booking(otherClassTypeId), CAPACITY)
+                    : () -> classCapacityService.claim(booking(otherClassTypeId), CAPACITY));
+        }
+
+        List<Throwable> failures = runInParallel(tasks);
+
+        assertThat(bookedCount()).isEqualTo(CAPACITY);
+        // Only one claim finds the free seat; moves always fit, since the count never passes capacity
+        assertThat(failures).hasSize(REQUESTS / 2 - 1).allMatch(ClassFullException.class::isInstance);
+    }
+
+    private ScheduleSnapshot booking(Long typeId) {
+        return new ScheduleSnapshot(null, null, instructorId, typeId, date, START_TIME, START_TIME.plusHours(1),
+                ScheduleStatus.AGENDADO, PaymentStatus.PENDENTE, new BigDecimal("80.00"), "Sala 1");
+    }
+
+    private int bookedCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT booked_count FROM class_slots WHERE instructor_id = ? AND date = ? AND start_time = ?",
+                Integer.class, instructorId, date, START_TIME);
+    }
+
+    // Starts all tasks at once and returns what they threw
+    private static List<Throwable> runInParallel(List<Runnable> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        for (Runnable task : tasks) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (Throwable ex) {
+                    failures.add(ex);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        return failures;
+    }
+}
@@ -87,7 +87,7 @@ const ScheduleForm: React.FC<ScheduleFormProps> = ({ schedule, isEdit, onSave, o
       try {
         setLoading(true);
         const [studentsRes, instructorsRes, classTypesRes] = await Promise.all([
-          api.get('/api/students', { params: { size: 100 } }),
+          api.get('/api/students/summary', { params: { size: 100 } }),
           api.get('/api/instructors', { params: { size: 100 } }),
           api.get('/api/classtypes', { params: { size: 100 } })
         ]);
@@ -60,7 +60,7 @@ const Students: React.FC = () => {
       setLoading(true);
       console.log('🔄 Buscando lista de Alunos...');
       
-      const response = await api.get('/api/students');
+      const response = await api.get('/api/students/summary');
       
       console.log('✅ Dados recebidos:', response.data);
       setStudents(response.data.content);